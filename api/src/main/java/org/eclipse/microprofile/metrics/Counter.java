@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *               2010-2013 Coda Hale, Yammer.com
  *
  * See the NOTICES file(s) distributed with this work for additional
@@ -47,4 +47,15 @@ public interface Counter extends Metric, Counting {
      */
     @Override
     long getCount();
+
+    /**
+     * Returns the exemplar of the latest increment that was made while a trace context was available.
+     *
+     * @return the latest {@link Exemplar}, or {@code null} if none was recorded or exemplars are not supported
+     *
+     * @since 5.2
+     */
+    default Exemplar getExemplar() {
+        return null;
+    }
 }
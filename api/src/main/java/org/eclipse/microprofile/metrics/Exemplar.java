@@ -0,0 +1,111 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.metrics;
+
+/**
+ * An exemplar ties a single recorded value of a metric to the trace that was active when the value was recorded, so
+ * that a monitoring system can link from an aggregated value, such as a histogram bucket, to a representative trace.
+ * <p>
+ * Implementations that support exemplars retain the latest exemplar of each {@link Counter} and of each
+ * {@link Snapshot.HistogramBucket histogram bucket} of {@link Histogram}s and {@link Timer}s. The trace context is
+ * obtained from an {@link ExemplarContextSupplier}. Values that are recorded without a trace context do not replace the
+ * retained exemplar.
+ * </p>
+ *
+ * @see Counter#getExemplar()
+ * @see Snapshot.HistogramBucket#getExemplar()
+ * @since 5.2
+ */
+public final class Exemplar {
+
+    private final double value;
+    private final long timestamp;
+    private final String traceId;
+    private final String spanId;
+
+    /**
+     * Constructs an exemplar.
+     *
+     * @param value
+     *            the recorded value, for a {@link Timer} in nanoseconds, for a {@link Counter} the increment
+     * @param timestamp
+     *            the time at which the value was recorded, in milliseconds since the epoch
+     * @param traceId
+     *            the id of the trace that was active when the value was recorded, not {@code null}
+     * @param spanId
+     *            the id of the span that was active when the value was recorded, or {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code traceId} is {@code null}
+     */
+    public Exemplar(double value, long timestamp, String traceId, String spanId) {
+        if (traceId == null) {
+            throw new IllegalArgumentException("Exemplars require a trace id");
+        }
+        this.value = value;
+        this.timestamp = timestamp;
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+
+    /**
+     * Returns the recorded value. The value of an exemplar of a {@link Timer} is in nanoseconds, the value of an
+     * exemplar of a {@link Counter} is the amount by which the counter was incremented.
+     *
+     * @return the recorded value
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the time at which the value was recorded.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the id of the trace that was active when the value was recorded.
+     *
+     * @return the trace id
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Returns the id of the span that was active when the value was recorded.
+     *
+     * @return the span id, or {@code null} if not available
+     */
+    public String getSpanId() {
+        return spanId;
+    }
+
+    @Override
+    public String toString() {
+        return "[Exemplar: " + value + " at " + timestamp + " with trace id: " + traceId
+                + (spanId == null ? "" : " and span id: " + spanId) + "]";
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.metrics;
+
+/**
+ * Supplies the trace context of the current execution to implementations that record {@link Exemplar}s.
+ * <p>
+ * An application or a tracing integration provides an implementation of this interface as a CDI bean. The
+ * implementation of this specification calls {@link #getContext()} when it records a value that may be retained as an
+ * exemplar, so the method must be cheap and must not block. If no bean of this type is available, no exemplars are
+ * recorded.
+ * </p>
+ *
+ * @since 5.2
+ */
+@FunctionalInterface
+public interface ExemplarContextSupplier {
+
+    /**
+     * Returns the trace context of the current execution.
+     *
+     * @return the trace context, or {@code null} if the current execution is not traced or not sampled
+     */
+    Context getContext();
+
+    /**
+     * The ids identifying the active trace and span.
+     */
+    final class Context {
+        private final String traceId;
+        private final String spanId;
+
+        /**
+         * @param traceId
+         *            the id of the active trace, not {@code null}
+         * @param spanId
+         *            the id of the active span, or {@code null}
+         * @throws IllegalArgumentException
+         *             if {@code traceId} is {@code null}
+         */
+        public Context(String traceId, String spanId) {
+            if (traceId == null) {
+                throw new IllegalArgumentException("A trace context requires a trace id");
+            }
+            this.traceId = traceId;
+            this.spanId = spanId;
+        }
+
+        /**
+         * @return the id of the active trace
+         */
+        public String getTraceId() {
+            return traceId;
+        }
+
+        /**
+         * @return the id of the active span, or {@code null}
+         */
+        public String getSpanId() {
+            return spanId;
+        }
+    }
+}
@@ -0,0 +1,514 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ExecutorService} that records the thread pool metrics of the tasks it passes on to another
+ * {@link ExecutorService}.
+ *
+ * @see MetricRegistry#instrument(ExecutorService, String)
+ * @since 5.2
+ */
+class InstrumentedExecutorService implements ExecutorService {
+
+    static final String QUEUE_SIZE = "threadpool.queue.size";
+    static final String REJECTED = "threadpool.rejected.total";
+    static final String TASK_WAIT = "threadpool.task.wait";
+    static final String TASK_RUN = "threadpool.task.run";
+    static final String COMPLETED = "threadpool.completed.total";
+    static final String ACTIVE_THREADS = "threadpool.activeThreads";
+    static final String SIZE = "threadpool.size";
+    static final String STEAL_COUNT = "threadpool.steal.count";
+
+    // the executors that are instrumented, whatever their type, so that none is instrumented twice
+    private static final Map<ExecutorService, Boolean> INSTRUMENTED = Collections.synchronizedMap(new WeakHashMap<>());
+    // set while a constructor reads the queue size gauge of its pool name, to find out which executor the gauge reads
+    private static final ThreadLocal<InstrumentedExecutorService[]> READER = new ThreadLocal<>();
+
+    private final MetricRegistry registry;
+    private final ExecutorService delegate;
+    // the metrics of the pool, which are removed from the registry once the executor has terminated
+    private final List<MetricID> metricIDs = new ArrayList<>();
+    private final AtomicBoolean removed = new AtomicBoolean();
+    // the tasks that wait to be started, only tracked if the executor does not report its queue
+    private final Set<Task<?>> queued;
+    private final AtomicLong running = new AtomicLong();
+    private final Counter rejected;
+    private final Counter completed;
+    private final Timer taskWait;
+    private final Timer taskRun;
+    private final boolean countsRejectedExceptions;
+
+    InstrumentedExecutorService(MetricRegistry registry, ExecutorService delegate, String poolName) {
+        this.registry = registry;
+        this.delegate = delegate;
+        if (delegate instanceof InstrumentedExecutorService
+                || INSTRUMENTED.putIfAbsent(Objects.requireNonNull(delegate), Boolean.TRUE) != null) {
+            throw new IllegalArgumentException(delegate + " is already instrumented");
+        }
+        Tag pool = new Tag("pool", poolName);
+        Metadata queueSize = Metadata.builder().withName(QUEUE_SIZE)
+                .withDescription("The number of tasks that are waiting in the queue of the thread pool.").build();
+        try {
+            if (delegate instanceof ThreadPoolExecutor) {
+                ThreadPoolExecutor executor = (ThreadPoolExecutor) delegate;
+                queued = null;
+                claim(queueSize, () -> executor.getQueue().size(), pool);
+            } else if (delegate instanceof ForkJoinPool) {
+                ForkJoinPool forkJoinPool = (ForkJoinPool) delegate;
+                queued = null;
+                claim(queueSize, () -> forkJoinPool.getQueuedSubmissionCount() + forkJoinPool.getQueuedTaskCount(),
+                        pool);
+            } else {
+                queued = ConcurrentHashMap.newKeySet();
+                claim(queueSize, queued::size, pool);
+            }
+        } catch (RuntimeException e) {
+            INSTRUMENTED.remove(delegate);
+            throw e;
+        }
+
+        rejected = registry.counter(Metadata.builder().withName(REJECTED)
+                .withDescription("The number of tasks that were rejected by the thread pool.").build(), pool);
+        completed = registry.counter(Metadata.builder().withName(COMPLETED)
+                .withDescription("The number of tasks that were completed by the thread pool.").build(), pool);
+        taskWait = registry.timer(Metadata.builder().withName(TASK_WAIT)
+                .withDescription("The time that tasks waited in the queue of the thread pool before they started.")
+                .withUnit(MetricUnits.NANOSECONDS).build(), pool);
+        taskRun = registry.timer(Metadata.builder().withName(TASK_RUN)
+                .withDescription("The time that tasks of the thread pool took to run.")
+                .withUnit(MetricUnits.NANOSECONDS).build(), pool);
+        metricIDs.add(new MetricID(REJECTED, pool));
+        metricIDs.add(new MetricID(COMPLETED, pool));
+        metricIDs.add(new MetricID(TASK_WAIT, pool));
+        metricIDs.add(new MetricID(TASK_RUN, pool));
+
+        Metadata activeThreads = Metadata.builder().withName(ACTIVE_THREADS)
+                .withDescription("Number of active threads that belong to the thread pool.").build();
+        Metadata size = Metadata.builder().withName(SIZE)
+                .withDescription("The size of the thread pool.").build();
+        if (delegate instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor executor = (ThreadPoolExecutor) delegate;
+            gauge(activeThreads, executor::getActiveCount, pool);
+            gauge(size, executor::getPoolSize, pool);
+            // counts rejections by every policy, including those that do not throw
+            executor.setRejectedExecutionHandler(
+                    new CountingRejectedExecutionHandler(executor.getRejectedExecutionHandler(), rejected));
+            countsRejectedExceptions = false;
+        } else if (delegate instanceof ForkJoinPool) {
+            ForkJoinPool forkJoinPool = (ForkJoinPool) delegate;
+            gauge(activeThreads, forkJoinPool::getActiveThreadCount, pool);
+            gauge(size, forkJoinPool::getPoolSize, pool);
+            gauge(Metadata.builder().withName(STEAL_COUNT)
+                    .withDescription("The number of tasks that were stolen from the queue of one thread of the pool "
+                            + "by another thread.")
+                    .build(), forkJoinPool::getStealCount, pool);
+            countsRejectedExceptions = true;
+        } else {
+            gauge(activeThreads, running::get, pool);
+            countsRejectedExceptions = true;
+        }
+    }
+
+    /*
+     * Registers the queue size gauge of the pool name, or finds the one that is registered already, and reads it once
+     * to check that it reads this executor. As the registry creates at most one gauge per MetricID, only one executor
+     * can claim a pool name, even if several are instrumented concurrently.
+     */
+    private <T extends Number> void claim(Metadata metadata, Supplier<T> supplier, Tag pool) {
+        Gauge<T> gauge = registry.gauge(metadata, () -> {
+            InstrumentedExecutorService[] reader = READER.get();
+            if (reader != null) {
+                reader[0] = this;
+            }
+            return supplier.get();
+        }, pool);
+        InstrumentedExecutorService[] reader = new InstrumentedExecutorService[1];
+        READER.set(reader);
+        try {
+            gauge.getValue();
+        } finally {
+            READER.remove();
+        }
+        if (reader[0] != this) {
+            throw new IllegalArgumentException("The thread pool " + pool.getTagValue() + " is already instrumented");
+        }
+        metricIDs.add(new MetricID(metadata.getName(), pool));
+    }
+
+    private <T extends Number> void gauge(Metadata metadata, Supplier<T> supplier, Tag pool) {
+        registry.gauge(metadata, supplier, pool);
+        metricIDs.add(new MetricID(metadata.getName(), pool));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Task<?> task = new Task<>(Objects.requireNonNull(command), null);
+        execute(task, task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return submit(Executors.callable(task), null);
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        return submit(Executors.callable(task, result), null);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return submit(Objects.requireNonNull(task), null);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        return invokeAll(tasks, false, 0);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return invokeAll(tasks, true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+        try {
+            return invokeAny(tasks, false, 0);
+        } catch (TimeoutException e) {
+            // not timed
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return invokeAny(tasks, true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+        removeMetricsIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = delegate.shutdownNow();
+        if (queued != null) {
+            // the tasks that did not start will not start any more, whether or not the executor returns them
+            // unwrapped, e.g. a scheduled executor returns its own futures of the tasks
+            queued.clear();
+        }
+        List<Runnable> unwrapped = new ArrayList<>(pending.size());
+        for (Runnable runnable : pending) {
+            unwrapped.add(runnable instanceof Task && ((Task<?>) runnable).runnable != null
+                    ? ((Task<?>) runnable).runnable
+                    : runnable);
+        }
+        removeMetricsIfTerminated();
+        return unwrapped;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return removeMetricsIfTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit) && removeMetricsIfTerminated();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedExecutorService{" + delegate + "}";
+    }
+
+    /*
+     * Removes the metrics of the pool once, when the executor is found to have terminated. No task updates them any
+     * more, and the pool name can be used for another executor.
+     */
+    private boolean removeMetricsIfTerminated() {
+        boolean terminated = delegate.isTerminated();
+        if (terminated && removed.compareAndSet(false, true)) {
+            for (MetricID metricID : metricIDs) {
+                registry.remove(metricID);
+            }
+        }
+        return terminated;
+    }
+
+    boolean tracksQueue() {
+        return queued != null;
+    }
+
+    private void execute(Task<?> task, Runnable command) {
+        try {
+            delegate.execute(command);
+        } catch (RejectedExecutionException e) {
+            rejected(task);
+            throw e;
+        }
+    }
+
+    /*
+     * Passes the task on to the executor as a future of this wrapper rather than of the executor, so that a task that
+     * is cancelled before it started is no longer counted as queued
+     */
+    private <T> Future<T> submit(Callable<T> callable, BlockingQueue<Future<T>> completion) {
+        TaskFuture<T> future = new TaskFuture<>(new Task<>(null, callable), completion);
+        execute(future.task, future);
+        return future;
+    }
+
+    private <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, boolean timed, long nanos)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(submit(Objects.requireNonNull(task), null));
+            }
+            for (Future<T> future : futures) {
+                if (!future.isDone()) {
+                    try {
+                        if (timed) {
+                            future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        } else {
+                            future.get();
+                        }
+                    } catch (CancellationException | ExecutionException e) {
+                        // the future is done
+                    } catch (TimeoutException e) {
+                        break;
+                    }
+                }
+            }
+            return futures;
+        } finally {
+            // cancels the tasks that did not complete in time or were not awaited because of an exception
+            cancel(futures);
+        }
+    }
+
+    private <T> T invokeAny(Collection<? extends Callable<T>> tasks, boolean timed, long nanos)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("No tasks to invoke");
+        }
+        long deadline = System.nanoTime() + nanos;
+        BlockingQueue<Future<T>> completion = new LinkedBlockingQueue<>();
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(submit(Objects.requireNonNull(task), completion));
+            }
+            ExecutionException failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                Future<T> future = timed
+                        ? completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+                        : completion.take();
+                if (future == null) {
+                    throw new TimeoutException();
+                }
+                try {
+                    return future.get();
+                } catch (ExecutionException e) {
+                    failure = e;
+                }
+            }
+            throw failure;
+        } finally {
+            // cancels the tasks that did not complete first
+            cancel(futures);
+        }
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    void rejected(Task<?> task) {
+        task.dequeue();
+        if (countsRejectedExceptions) {
+            rejected.inc();
+        }
+    }
+
+    /*
+     * Wraps either a Runnable or a Callable and keeps the time at which it is due as a primitive, so that no further
+     * object such as a Timer.Context is needed per task or execution.
+     */
+    final class Task<T> implements Runnable, Callable<T> {
+
+        private final Runnable runnable;
+        private final Callable<T> callable;
+        // 0 for a single execution, > 0 for a fixed rate and < 0 for a fixed delay, in nanoseconds
+        private final long period;
+        private long due;
+
+        Task(Runnable runnable, Callable<T> callable) {
+            this(runnable, callable, 0, 0);
+        }
+
+        Task(Runnable runnable, Callable<T> callable, long delay, long period) {
+            this.runnable = runnable;
+            this.callable = callable;
+            this.period = period;
+            // periodic tasks stay with the executor between their executions and are not counted as queued
+            if (period == 0 && queued != null) {
+                queued.add(this);
+            }
+            this.due = System.nanoTime() + Math.max(0, delay);
+        }
+
+        // at most once, when the task is started, cancelled or rejected, or the executor is shut down
+        void dequeue() {
+            if (queued != null) {
+                queued.remove(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            long start = started();
+            try {
+                runnable.run();
+            } finally {
+                finished(start);
+            }
+        }
+
+        @Override
+        public T call() throws Exception {
+            long start = started();
+            try {
+                return callable.call();
+            } finally {
+                finished(start);
+            }
+        }
+
+        private long started() {
+            long start = System.nanoTime();
+            dequeue();
+            running.incrementAndGet();
+            taskWait.update(Duration.ofNanos(Math.max(0, start - due)));
+            return start;
+        }
+
+        private void finished(long start) {
+            long end = System.nanoTime();
+            running.decrementAndGet();
+            taskRun.update(Duration.ofNanos(end - start));
+            completed.inc();
+            if (period > 0) {
+                due += period;
+            } else if (period < 0) {
+                due = end - period;
+            }
+        }
+    }
+
+    /*
+     * The future of a task passed to the executor by submit, invokeAll and invokeAny
+     */
+    private static final class TaskFuture<T> extends FutureTask<T> {
+
+        private final Task<T> task;
+        private final BlockingQueue<Future<T>> completion;
+
+        TaskFuture(Task<T> task, BlockingQueue<Future<T>> completion) {
+            super(task);
+            this.task = task;
+            this.completion = completion;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                task.dequeue();
+            }
+            if (completion != null) {
+                completion.add(this);
+            }
+        }
+    }
+
+    private static final class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler delegate;
+        private final Counter rejected;
+
+        CountingRejectedExecutionHandler(RejectedExecutionHandler delegate, Counter rejected) {
+            this.delegate = delegate;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            rejected.inc();
+            delegate.rejectedExecution(r, executor);
+        }
+    }
+}
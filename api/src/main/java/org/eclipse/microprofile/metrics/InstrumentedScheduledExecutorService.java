@@ -0,0 +1,165 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.metrics;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link ScheduledExecutorService} that records the thread pool metrics of the tasks it passes on to another
+ * {@link ScheduledExecutorService}. The wait time of a scheduled task is measured from the time at which each of its
+ * executions is due, rather than from its submission.
+ *
+ * @see MetricRegistry#instrument(ScheduledExecutorService, String)
+ * @since 5.2
+ */
+class InstrumentedScheduledExecutorService extends InstrumentedExecutorService implements ScheduledExecutorService {
+
+    private final ScheduledExecutorService delegate;
+
+    InstrumentedScheduledExecutorService(MetricRegistry registry, ScheduledExecutorService delegate,
+            String poolName) {
+        super(registry, delegate, poolName);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Task<?> task = new Task<>(command, null, unit.toNanos(delay), 0);
+        try {
+            return tracked(task, delegate.schedule((Runnable) task, delay, unit));
+        } catch (RejectedExecutionException e) {
+            rejected(task);
+            throw e;
+        }
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Task<V> task = new Task<>(null, callable, unit.toNanos(delay), 0);
+        try {
+            return tracked(task, delegate.schedule((Callable<V>) task, delay, unit));
+        } catch (RejectedExecutionException e) {
+            rejected(task);
+            throw e;
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        Task<?> task = new Task<>(command, null, unit.toNanos(initialDelay), unit.toNanos(period));
+        try {
+            return delegate.scheduleAtFixedRate(task, initialDelay, period, unit);
+        } catch (RejectedExecutionException e) {
+            rejected(task);
+            throw e;
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive: " + delay);
+        }
+        Task<?> task = new Task<>(command, null, unit.toNanos(initialDelay), -unit.toNanos(delay));
+        try {
+            return delegate.scheduleWithFixedDelay(task, initialDelay, delay, unit);
+        } catch (RejectedExecutionException e) {
+            rejected(task);
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedScheduledExecutorService{" + delegate + "}";
+    }
+
+    // the future of the executor does not reach the task when it is cancelled
+    private <V> ScheduledFuture<V> tracked(Task<?> task, ScheduledFuture<V> future) {
+        return tracksQueue() ? new TaskScheduledFuture<>(task, future) : future;
+    }
+
+    /*
+     * The future of a delayed task, which is no longer counted as queued once it is cancelled
+     */
+    private static final class TaskScheduledFuture<V> implements ScheduledFuture<V> {
+
+        private final Task<?> task;
+        private final ScheduledFuture<V> future;
+
+        TaskScheduledFuture(Task<?> task, ScheduledFuture<V> future) {
+            this.task = task;
+            this.future = future;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = future.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                task.dequeue();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return future.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return future.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return future.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return future.compareTo(other instanceof TaskScheduledFuture
+                    ? ((TaskScheduledFuture<?>) other).future
+                    : other);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2019 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *               2010-2013 Coda Hale, Yammer.com
  *
  * See the NOTICES file(s) distributed with this work for additional
@@ -22,8 +22,21 @@
  **********************************************************************/
 package org.eclipse.microprofile.metrics;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * A filter used to determine whether or not a metric should be reported, among other things.
+ * <p>
+ * Filters created with {@link #byName(String...)}, {@link #byNamePrefix(String...)} and {@link #byTag(String, String)}
+ * expose their criteria, so that an implementation of {@link MetricRegistry} can recognize them and answer
+ * {@link MetricRegistry#getMetrics(MetricFilter)} or {@link MetricRegistry#removeMatching(MetricFilter)} through an
+ * index instead of evaluating {@link #matches(MetricID, Metric)} for every registered metric. The result must be the
+ * same either way.
+ * </p>
  */
 public interface MetricFilter {
     /**
@@ -41,4 +54,189 @@ public interface MetricFilter {
      * @return {@code true} if the metric matches the filter
      */
     boolean matches(MetricID metricID, Metric metric);
+
+    /**
+     * Returns a filter that matches the metrics whose name is equal to any of the given names.
+     *
+     * @param names
+     *            the metric names to match, not {@code null}
+     * @return the filter
+     * @throws NullPointerException
+     *             if {@code names} or any of its elements is {@code null}
+     *
+     * @since 5.2
+     */
+    static ByName byName(String... names) {
+        return new ByName(names);
+    }
+
+    /**
+     * Returns a filter that matches the metrics whose name starts with any of the given prefixes.
+     *
+     * @param prefixes
+     *            the metric name prefixes to match, not {@code null}
+     * @return the filter
+     * @throws NullPointerException
+     *             if {@code prefixes} or any of its elements is {@code null}
+     *
+     * @since 5.2
+     */
+    static ByNamePrefix byNamePrefix(String... prefixes) {
+        return new ByNamePrefix(prefixes);
+    }
+
+    /**
+     * Returns a filter that matches the metrics whose {@link MetricID} has a tag with the given name and value.
+     *
+     * @param tagName
+     *            the tag name, must match the regex [a-zA-Z_][a-zA-Z0-9_]*
+     * @param tagValue
+     *            the tag value
+     * @return the filter
+     * @throws IllegalArgumentException
+     *             if the tag name does not match [a-zA-Z_][a-zA-Z0-9_]*
+     *
+     * @since 5.2
+     */
+    static ByTag byTag(String tagName, String tagValue) {
+        return new ByTag(new Tag(tagName, tagValue));
+    }
+
+    private static Set<String> toSet(String description, String... values) {
+        Objects.requireNonNull(values, description);
+        for (String value : values) {
+            Objects.requireNonNull(value, () -> "The " + description + " must not contain null: "
+                    + Arrays.toString(values));
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(values)));
+    }
+
+    /**
+     * A filter that matches metrics by name.
+     *
+     * @see MetricFilter#byName(String...)
+     * @since 5.2
+     */
+    final class ByName implements MetricFilter {
+        private final Set<String> names;
+
+        private ByName(String... names) {
+            this.names = toSet("names", names);
+        }
+
+        /**
+         * @return the metric names matched by this filter
+         */
+        public Set<String> getNames() {
+            return names;
+        }
+
+        @Override
+        public boolean matches(MetricID metricID, Metric metric) {
+            return names.contains(metricID.getName());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof ByName && names.equals(((ByName) o).names);
+        }
+
+        @Override
+        public int hashCode() {
+            return names.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "MetricFilter.byName" + names;
+        }
+    }
+
+    /**
+     * A filter that matches metrics by name prefix.
+     *
+     * @see MetricFilter#byNamePrefix(String...)
+     * @since 5.2
+     */
+    final class ByNamePrefix implements MetricFilter {
+        private final Set<String> prefixes;
+
+        private ByNamePrefix(String... prefixes) {
+            this.prefixes = toSet("prefixes", prefixes);
+        }
+
+        /**
+         * @return the metric name prefixes matched by this filter
+         */
+        public Set<String> getPrefixes() {
+            return prefixes;
+        }
+
+        @Override
+        public boolean matches(MetricID metricID, Metric metric) {
+            String name = metricID.getName();
+            for (String prefix : prefixes) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof ByNamePrefix && prefixes.equals(((ByNamePrefix) o).prefixes);
+        }
+
+        @Override
+        public int hashCode() {
+            return prefixes.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "MetricFilter.byNamePrefix" + prefixes;
+        }
+    }
+
+    /**
+     * A filter that matches metrics by tag.
+     *
+     * @see MetricFilter#byTag(String, String)
+     * @since 5.2
+     */
+    final class ByTag implements MetricFilter {
+        private final Tag tag;
+
+        private ByTag(Tag tag) {
+            this.tag = tag;
+        }
+
+        /**
+         * @return the tag matched by this filter
+         */
+        public Tag getTag() {
+            return tag;
+        }
+
+        @Override
+        public boolean matches(MetricID metricID, Metric metric) {
+            return tag.getTagValue().equals(metricID.getTags().get(tag.getTagName()));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof ByTag && tag.equals(((ByTag) o).tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "MetricFilter.byTag[" + tag + "]";
+        }
+    }
 }
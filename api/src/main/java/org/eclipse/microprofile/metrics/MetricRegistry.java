@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *               2010, 2013 Coda Hale, Yammer.com
  *
  * See the NOTICES file(s) distributed with this work for additional
@@ -28,8 +28,11 @@ import static java.util.stream.Collectors.joining;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -537,6 +540,126 @@ public interface MetricRegistry {
      */
     Timer timer(Metadata metadata, Tag... tags);
 
+    /**
+     * Return the {@link Timer} registered under the {@link MetricID} with the {@link Metadata}'s name and with the
+     * provided {@link Tag}s; or create and register a new {@link Timer} if none is registered. In addition, the sibling
+     * metrics of the given {@link Timer.Measure measures} are retrieved or registered with the same tags: a
+     * {@link Timer} for {@link Timer.Measure#CPU} and a {@link Histogram} with the unit {@link MetricUnits#BYTES} for
+     * {@link Timer.Measure#ALLOCATION}, named according to {@link Timer.Measure#getMetricName(String)}.
+     * <p>
+     * This allows code that records several measures for one invocation, such as the interceptor of
+     * {@link org.eclipse.microprofile.metrics.annotation.Timed Timed}, to register all of its metrics consistently.
+     * </p>
+     * <p>
+     * Note: During retrieval or creation, if a {@link Metadata} object is already registered under one of the metric
+     * names and is not equal to the {@link Metadata} object derived for it then an exception will be thrown.
+     * </p>
+     *
+     * @param metadata
+     *            the metadata of the timer
+     * @param measures
+     *            the measures to register sibling metrics for; {@link Timer.Measure#WALL} is implied
+     * @param tags
+     *            the tags of the metrics
+     * @return a new or pre-existing {@link Timer}
+     *
+     * @since 5.2
+     */
+    default Timer timer(Metadata metadata, Set<Timer.Measure> measures, Tag... tags) {
+        Timer timer = timer(metadata, tags);
+        for (Timer.Measure measure : measures) {
+            String name = measure.getMetricName(metadata.getName());
+            switch (measure) {
+                case CPU :
+                    timer(Metadata.builder(metadata).withName(name).build(), tags);
+                    break;
+                case ALLOCATION :
+                    histogram(Metadata.builder(metadata).withName(name).withUnit(MetricUnits.BYTES).build(), tags);
+                    break;
+                default :
+                    break;
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * Wrap an {@link ExecutorService} so that the tasks passed to it are recorded in the thread pool metrics of this
+     * registry, tagged with {@code pool=poolName}:
+     * <ul>
+     * <li>{@code threadpool.queue.size} - a {@link Gauge} of the number of tasks that wait to be started</li>
+     * <li>{@code threadpool.activeThreads} - a {@link Gauge} of the number of threads that are running tasks</li>
+     * <li>{@code threadpool.rejected.total} - a {@link Counter} of the rejected tasks</li>
+     * <li>{@code threadpool.task.wait} - a {@link Timer} of the time between the submission and the start of each
+     * task</li>
+     * <li>{@code threadpool.task.run} - a {@link Timer} of the time that each task took to run</li>
+     * <li>{@code threadpool.completed.total} - a {@link Counter} of the tasks that completed, normally or
+     * exceptionally</li>
+     * </ul>
+     * <p>
+     * If the executor is a {@link java.util.concurrent.ThreadPoolExecutor}, the queue size and the number of active
+     * threads are read from the executor, a {@code threadpool.size} {@link Gauge} of the number of threads in the pool
+     * is added, and its {@link java.util.concurrent.RejectedExecutionHandler} is wrapped, so that rejections by every
+     * policy are counted. If the executor is a {@link java.util.concurrent.ForkJoinPool}, the queue size, the number of
+     * active threads and the {@code threadpool.size} are read from the pool, and a {@code threadpool.steal.count}
+     * {@link Gauge} of the number of stolen tasks is added. Otherwise, the wrapper tracks the tasks it submitted and
+     * counts the {@link java.util.concurrent.RejectedExecutionException RejectedExecutionExceptions} thrown by the
+     * executor.
+     * </p>
+     * <p>
+     * Only the tasks submitted through the returned {@link ExecutorService} are timed and counted. Each task is wrapped
+     * in a single object that keeps its submission time as a primitive value, so that no {@link Timer.Context} is
+     * created per task. Shutting down the returned {@link ExecutorService} shuts down the given one. The pool name must
+     * be unique within this registry, and an executor must only be instrumented once.
+     * </p>
+     * <p>
+     * The metrics of the pool are removed from this registry once the returned {@link ExecutorService} has terminated,
+     * as detected by its {@link ExecutorService#shutdown() shutdown}, {@link ExecutorService#shutdownNow()
+     * shutdownNow}, {@link ExecutorService#isTerminated() isTerminated} and
+     * {@link ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit) awaitTermination} methods. The pool
+     * name can then be used for another executor.
+     * </p>
+     *
+     * @param executor
+     *            the executor to instrument
+     * @param poolName
+     *            the value of the {@code pool} tag of the metrics
+     * @return an {@link ExecutorService} that passes all tasks on to the given executor
+     * @throws IllegalArgumentException
+     *             If a {@code threadpool.queue.size} {@link Gauge} of the pool name is already registered, or the
+     *             executor was already passed to or returned by an {@code instrument} method
+     *
+     * @since 5.2
+     */
+    default ExecutorService instrument(ExecutorService executor, String poolName) {
+        return new InstrumentedExecutorService(this, executor, poolName);
+    }
+
+    /**
+     * Wrap a {@link ScheduledExecutorService} so that the tasks passed to it are recorded in the thread pool metrics of
+     * this registry, as described for {@link #instrument(ExecutorService, String)}.
+     * <p>
+     * The {@code threadpool.task.wait} {@link Timer} of a scheduled task records the time between the time at which an
+     * execution was due and its start, i.e. the delay that was requested is not included. Periodic tasks record every
+     * execution. The queue size of a {@link java.util.concurrent.ScheduledThreadPoolExecutor} includes the tasks that
+     * are not due yet.
+     * </p>
+     *
+     * @param executor
+     *            the executor to instrument
+     * @param poolName
+     *            the value of the {@code pool} tag of the metrics
+     * @return a {@link ScheduledExecutorService} that passes all tasks on to the given executor
+     * @throws IllegalArgumentException
+     *             If a {@code threadpool.queue.size} {@link Gauge} of the pool name is already registered, or the
+     *             executor was already passed to or returned by an {@code instrument} method
+     *
+     * @since 5.2
+     */
+    default ScheduledExecutorService instrument(ScheduledExecutorService executor, String poolName) {
+        return new InstrumentedScheduledExecutorService(this, executor, poolName);
+    }
+
     /**
      * Return the {@link Metric} registered for a provided {@link MetricID}.
      *
@@ -650,12 +773,53 @@ public interface MetricRegistry {
 
     /**
      * Removes all metrics which match the given filter.
+     * <p>
+     * Implementations should resolve filters created with {@link MetricFilter#byName(String...)},
+     * {@link MetricFilter#byNamePrefix(String...)} or {@link MetricFilter#byTag(String, String)} through an index, so
+     * that the cost of the removal is proportional to the number of matching metrics rather than to the size of the
+     * registry.
+     * </p>
      *
      * @param filter
      *            a filter
      */
     void removeMatching(MetricFilter filter);
 
+    /**
+     * Adds a listener that is notified of the metrics registered in and removed from this registry from now on. The
+     * listener is not notified of the metrics that are already registered; these can be obtained with
+     * {@link #getMetrics()}.
+     * <p>
+     * Listeners are optional. The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param listener
+     *            the listener to add, not {@code null}
+     * @throws UnsupportedOperationException
+     *             if the implementation does not support listeners
+     *
+     * @since 5.2
+     */
+    default void addListener(MetricRegistryListener listener) {
+        throw new UnsupportedOperationException("Listeners are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Removes a listener that was added with {@link #addListener(MetricRegistryListener)}. The listener is not notified
+     * of changes of this registry that start after this method returns.
+     *
+     * @param listener
+     *            the listener to remove
+     * @return {@code true} if the listener was removed, {@code false} if it had not been added
+     * @throws UnsupportedOperationException
+     *             if the implementation does not support listeners
+     *
+     * @since 5.2
+     */
+    default boolean removeListener(MetricRegistryListener listener) {
+        throw new UnsupportedOperationException("Listeners are not supported by " + getClass().getName());
+    }
+
     /**
      * Returns a set of the names of all the metrics in the registry.
      *
@@ -736,6 +900,10 @@ public interface MetricRegistry {
 
     /**
      * Returns a map of all the metrics in the registry and their {@link MetricID}s which match the given filter.
+     * <p>
+     * As for {@link #removeMatching(MetricFilter)}, implementations should resolve filters created with the factory
+     * methods of {@link MetricFilter} through an index.
+     * </p>
      *
      * @param filter
      *            the metric filter to match
@@ -0,0 +1,65 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.metrics;
+
+/**
+ * Receives the registrations and removals of metrics in a {@link MetricRegistry}, e.g. to maintain secondary indexes or
+ * exporter caches without comparing {@link MetricRegistry#getMetricIDs()} over time.
+ * <p>
+ * The callbacks are invoked on the thread that changed the registry, after the change is complete and visible through
+ * the {@link MetricRegistry}, and before the method that changed the registry returns. No lock of the registry is held
+ * while a callback runs, so a callback may call any method of the registry. Callbacks for the same {@link MetricID} are
+ * delivered in the order of the changes, and listeners are invoked in the order in which they were added.
+ * </p>
+ * <p>
+ * An exception thrown by a callback does not affect the change of the registry or the invocation of other listeners.
+ * </p>
+ *
+ * @see MetricRegistry#addListener(MetricRegistryListener)
+ * @since 5.2
+ */
+public interface MetricRegistryListener {
+
+    /**
+     * Called when a metric has been registered under a new {@link MetricID}. Not called when an existing metric is
+     * returned by one of the get-or-create methods of the {@link MetricRegistry}.
+     *
+     * @param metricID
+     *            the id of the registered metric
+     * @param metric
+     *            the registered metric
+     * @param metadata
+     *            the metadata of the registered metric
+     */
+    default void onAdded(MetricID metricID, Metric metric, Metadata metadata) {
+    }
+
+    /**
+     * Called when a metric has been removed, e.g. by {@link MetricRegistry#remove(MetricID)} or once for each removed
+     * metric by {@link MetricRegistry#remove(String)} and {@link MetricRegistry#removeMatching(MetricFilter)}.
+     *
+     * @param metricID
+     *            the id of the removed metric
+     */
+    default void onRemoved(MetricID metricID) {
+    }
+}
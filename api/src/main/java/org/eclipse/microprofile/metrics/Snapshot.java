@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *               2010-2013 Coda Hale, Yammer.com
  *
  * See the NOTICES file(s) distributed with this work for additional
@@ -69,6 +69,19 @@ public abstract class Snapshot {
         return new HistogramBucket[0];
     };
 
+    /**
+     * Returns the sparse exponential buckets of this {@link Snapshot} at the moment invocation. Exponential buckets are
+     * only tracked for histograms and timers that are configured to use them, see
+     * {@code mp.metrics.distribution.native-histogram.enabled}.
+     *
+     * @return the {@link ExponentialBuckets} if they are available or {@code null} if not available
+     *
+     * @since 5.2
+     */
+    public ExponentialBuckets exponentialBucketValues() {
+        return null;
+    }
+
     /**
      * Writes the values of the snapshot to the given stream.
      *
@@ -132,6 +145,7 @@ public abstract class Snapshot {
     public static class HistogramBucket {
         private final double bucket;
         private final long count;
+        private final Exemplar exemplar;
 
         /**
          *
@@ -141,8 +155,24 @@ public abstract class Snapshot {
          *            the upper limit value of this bucket
          */
         public HistogramBucket(double bucket, long count) {
+            this(bucket, count, null);
+        }
+
+        /**
+         *
+         * @param count
+         *            count at this bucket
+         * @param bucket
+         *            the upper limit value of this bucket
+         * @param exemplar
+         *            the latest exemplar of a value that falls into this bucket, or {@code null}
+         *
+         * @since 5.2
+         */
+        public HistogramBucket(double bucket, long count, Exemplar exemplar) {
             this.bucket = bucket;
             this.count = count;
+            this.exemplar = exemplar;
         }
 
         /**
@@ -163,9 +193,262 @@ public abstract class Snapshot {
             return this.bucket;
         }
 
+        /**
+         * Returns the latest exemplar of a value that falls into this bucket, i.e. that is greater than the upper limit
+         * of the previous bucket and at most the upper limit of this bucket.
+         *
+         * @return the latest {@link Exemplar} of this bucket, or {@code null} if none was recorded or exemplars are not
+         *         supported
+         *
+         * @since 5.2
+         */
+        public Exemplar getExemplar() {
+            return this.exemplar;
+        }
+
         public String toString() {
             return "[Bucket: " + (this.bucket) + " with count: " + this.count + "]";
         }
 
     }
+
+    /**
+     * Represents the sparse exponential (native) histogram of a Snapshot. The bucket boundaries are not configured but
+     * derived from the {@link #getSchema() schema}: with {@code base = 2^(2^-schema)} the bucket with index {@code i}
+     * holds the values in {@code (base^(i-1), base^i]}. Only buckets that have recorded at least one value are
+     * reported, so the number of buckets depends on the spread of the recorded values rather than on configuration.
+     * Values whose absolute value is at most the {@link #getZeroThreshold() zero threshold} are counted in the zero
+     * bucket. Unlike the other values of a {@link Timer} snapshot, the exponential buckets of a {@link Timer} are
+     * computed over durations in seconds.
+     *
+     * The counts are not cumulative, i.e. each count only covers its own bucket.
+     *
+     * See {@link #exponentialBucketValues()}
+     *
+     * @since 5.2
+     */
+    public static class ExponentialBuckets {
+
+        /**
+         * The lowest supported schema, each bucket spans a factor of {@code 2^16}.
+         */
+        public static final int MIN_SCHEMA = -4;
+
+        /**
+         * The highest supported schema, each bucket spans a factor of {@code 2^(1/256)}.
+         */
+        public static final int MAX_SCHEMA = 8;
+
+        private static final int[] EMPTY_INDEXES = new int[0];
+        private static final long[] EMPTY_COUNTS = new long[0];
+
+        private final int schema;
+        private final double zeroThreshold;
+        private final long zeroCount;
+        private final int[] positiveIndexes;
+        private final long[] positiveCounts;
+        private final int[] negativeIndexes;
+        private final long[] negativeCounts;
+
+        /**
+         *
+         * @param schema
+         *            the schema, between {@link #MIN_SCHEMA} and {@link #MAX_SCHEMA}
+         * @param zeroThreshold
+         *            the non-negative width of the zero bucket
+         * @param zeroCount
+         *            the count of the zero bucket
+         * @param positiveIndexes
+         *            the ascending indexes of the non-empty buckets of positive values
+         * @param positiveCounts
+         *            the counts of the buckets in {@code positiveIndexes}
+         * @param negativeIndexes
+         *            the ascending indexes of the non-empty buckets of negative values, indexed by absolute value
+         * @param negativeCounts
+         *            the counts of the buckets in {@code negativeIndexes}
+         * @throws IllegalArgumentException
+         *             if the schema is out of range or an index array and its count array differ in length
+         */
+        public ExponentialBuckets(int schema, double zeroThreshold, long zeroCount, int[] positiveIndexes,
+                long[] positiveCounts, int[] negativeIndexes, long[] negativeCounts) {
+            checkSchema(schema);
+            if (positiveIndexes.length != positiveCounts.length || negativeIndexes.length != negativeCounts.length) {
+                throw new IllegalArgumentException("Each bucket index requires exactly one count");
+            }
+            this.schema = schema;
+            this.zeroThreshold = zeroThreshold;
+            this.zeroCount = zeroCount;
+            this.positiveIndexes = positiveIndexes.clone();
+            this.positiveCounts = positiveCounts.clone();
+            this.negativeIndexes = negativeIndexes.clone();
+            this.negativeCounts = negativeCounts.clone();
+        }
+
+        /**
+         *
+         * @param schema
+         *            the schema, between {@link #MIN_SCHEMA} and {@link #MAX_SCHEMA}
+         * @param zeroThreshold
+         *            the non-negative width of the zero bucket
+         * @param zeroCount
+         *            the count of the zero bucket
+         * @param positiveIndexes
+         *            the ascending indexes of the non-empty buckets of positive values
+         * @param positiveCounts
+         *            the counts of the buckets in {@code positiveIndexes}
+         */
+        public ExponentialBuckets(int schema, double zeroThreshold, long zeroCount, int[] positiveIndexes,
+                long[] positiveCounts) {
+            this(schema, zeroThreshold, zeroCount, positiveIndexes, positiveCounts, EMPTY_INDEXES, EMPTY_COUNTS);
+        }
+
+        /**
+         * Returns the schema which determines the resolution of the buckets. Each increment of the schema doubles the
+         * number of buckets per power of two.
+         *
+         * @return the schema
+         */
+        public int getSchema() {
+            return schema;
+        }
+
+        /**
+         * Returns the width of the zero bucket
+         *
+         * @return the zero threshold
+         */
+        public double getZeroThreshold() {
+            return zeroThreshold;
+        }
+
+        /**
+         * Returns the number of values whose absolute value is at most the zero threshold
+         *
+         * @return the count of the zero bucket
+         */
+        public long getZeroCount() {
+            return zeroCount;
+        }
+
+        /**
+         * Returns the indexes of the non-empty buckets of positive values in ascending order
+         *
+         * @return a copy of the positive bucket indexes
+         */
+        public int[] getPositiveIndexes() {
+            return positiveIndexes.clone();
+        }
+
+        /**
+         * Returns the counts of the non-empty buckets of positive values, in the order of {@link #getPositiveIndexes()}
+         *
+         * @return a copy of the positive bucket counts
+         */
+        public long[] getPositiveCounts() {
+            return positiveCounts.clone();
+        }
+
+        /**
+         * Returns the indexes of the non-empty buckets of negative values in ascending order. Negative values are
+         * indexed by their absolute value.
+         *
+         * @return a copy of the negative bucket indexes
+         */
+        public int[] getNegativeIndexes() {
+            return negativeIndexes.clone();
+        }
+
+        /**
+         * Returns the counts of the non-empty buckets of negative values, in the order of {@link #getNegativeIndexes()}
+         *
+         * @return a copy of the negative bucket counts
+         */
+        public long[] getNegativeCounts() {
+            return negativeCounts.clone();
+        }
+
+        /**
+         * Returns the index of the bucket holding the given positive value, that is the smallest {@code i} with
+         * {@code value <= base^i}. Implementations should use this method (or an equivalent computation) so that bucket
+         * indexes are identical across implementations and exporters.
+         *
+         * @param value
+         *            a positive, finite value
+         * @param schema
+         *            the schema, between {@link #MIN_SCHEMA} and {@link #MAX_SCHEMA}
+         * @return the index of the bucket
+         * @throws IllegalArgumentException
+         *             if the value is not positive and finite or the schema is out of range
+         */
+        public static int bucketIndex(double value, int schema) {
+            checkSchema(schema);
+            if (!(value > 0) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException("Value must be positive and finite: " + value);
+            }
+            int exponent = Math.getExponent(value);
+            if (exponent < Double.MIN_EXPONENT) {
+                // subnormal value, normalize it first
+                value = value * 0x1p54;
+                exponent = Math.getExponent(value) - 54;
+            }
+            double mantissa = value / Math.scalb(1.0, Math.getExponent(value));
+            if (schema <= 0) {
+                int width = 1 << -schema;
+                int ceilLog2 = mantissa == 1.0 ? exponent : exponent + 1;
+                return Math.floorDiv(ceilLog2 + width - 1, width);
+            }
+            int bucketsPerPowerOfTwo = 1 << schema;
+            if (mantissa == 1.0) {
+                return exponent * bucketsPerPowerOfTwo;
+            }
+            // smallest sub-bucket whose upper bound 2^(sub/bucketsPerPowerOfTwo) is not below the mantissa
+            int low = 1;
+            int high = bucketsPerPowerOfTwo;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (mantissa <= Math.pow(2.0, (double) mid / bucketsPerPowerOfTwo)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return exponent * bucketsPerPowerOfTwo + low;
+        }
+
+        /**
+         * Returns the inclusive upper bound {@code base^index} of the bucket with the given index.
+         *
+         * @param index
+         *            the index of the bucket
+         * @param schema
+         *            the schema, between {@link #MIN_SCHEMA} and {@link #MAX_SCHEMA}
+         * @return the upper bound of the bucket
+         * @throws IllegalArgumentException
+         *             if the schema is out of range
+         */
+        public static double bucketUpperBound(int index, int schema) {
+            checkSchema(schema);
+            return Math.pow(2.0, Math.scalb((double) index, -schema));
+        }
+
+        private static void checkSchema(int schema) {
+            if (schema < MIN_SCHEMA || schema > MAX_SCHEMA) {
+                throw new IllegalArgumentException(
+                        "Schema must be between " + MIN_SCHEMA + " and " + MAX_SCHEMA + ": " + schema);
+            }
+        }
+
+        public String toString() {
+            StringBuilder sb = new StringBuilder("[Schema: ").append(schema).append(" with zero count: ")
+                    .append(zeroCount);
+            for (int i = 0; i < positiveIndexes.length; i++) {
+                sb.append(", bucket ").append(positiveIndexes[i]).append(": ").append(positiveCounts[i]);
+            }
+            for (int i = 0; i < negativeIndexes.length; i++) {
+                sb.append(", bucket -").append(negativeIndexes[i]).append(": ").append(negativeCounts[i]);
+            }
+            return sb.append("]").toString();
+        }
+
+    }
 }
@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *               2010, 2013 Coda Hale, Yammer.com
  *
  * See the NOTICES file(s) distributed with this work for additional
@@ -30,8 +30,58 @@ import java.util.concurrent.Callable;
  * A timer metric which aggregates timing durations and provides duration statistics
  */
 public interface Timer extends Metric, Sampling {
+
+    /**
+     * The quantities that can be measured for the invocations of an element annotated with
+     * {@link org.eclipse.microprofile.metrics.annotation.Timed Timed}.
+     *
+     * @see org.eclipse.microprofile.metrics.annotation.Timed#measure()
+     * @since 5.2
+     */
+    enum Measure {
+        /**
+         * The wall-clock duration of the invocation, including the time the invoking thread is blocked or parked. It is
+         * recorded by the timer identified by the name and tags of the annotation.
+         */
+        WALL(""),
+
+        /**
+         * The CPU time consumed by the invoking thread during the invocation. It is recorded in nanoseconds by a
+         * sibling timer whose name is the name of the annotated timer followed by {@code .cpu}, with the same tags. The
+         * sibling timer is not updated if the CPU time of the invoking thread cannot be measured, e.g. for virtual
+         * threads on JVMs that do not support it.
+         */
+        CPU(".cpu"),
+
+        /**
+         * The number of bytes allocated by the invoking thread during the invocation. It is recorded in
+         * {@link MetricUnits#BYTES bytes} by a sibling {@link Histogram} whose name is the name of the annotated timer
+         * followed by {@code .allocation}, with the same tags. The sibling histogram is not updated if the allocated
+         * bytes of the invoking thread cannot be measured.
+         */
+        ALLOCATION(".allocation");
+
+        private final String suffix;
+
+        Measure(String suffix) {
+            this.suffix = suffix;
+        }
+
+        /**
+         * Returns the name of the metric recording this measure for the timer with the given name.
+         *
+         * @param timerName
+         *            the name of the timer
+         * @return the name of the sibling metric, or {@code timerName} itself for {@link #WALL}
+         */
+        public String getMetricName(String timerName) {
+            return timerName + suffix;
+        }
+    }
+
     /**
-     * A timing context.
+     * A timing context. A context may be stopped on a different thread than the one that created it, for example when a
+     * virtual thread is mounted on a different carrier thread after it was parked.
      *
      * @see Timer#time()
      */
@@ -92,6 +142,10 @@ public interface Timer extends Metric, Sampling {
     /**
      * Returns the total elapsed timing durations of all completed timing events that are recorded with
      * {@link #update(Duration)}.
+     * <p>
+     * For a timer of a {@link org.eclipse.microprofile.metrics.annotation.Timed#samplingRate() sampled} annotated
+     * element, this is an estimate computed from the sampled durations.
+     * </p>
      *
      * @return the elapsed time {@link java.time.Duration duration}
      */
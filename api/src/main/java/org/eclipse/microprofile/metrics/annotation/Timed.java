@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *               2010-2013 Coda Hale, Yammer.com
  *
  * See the NOTICES file(s) distributed with this work for additional
@@ -31,6 +31,7 @@ import java.lang.annotation.Target;
 
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Timer;
 
 import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
@@ -74,6 +75,11 @@ import jakarta.interceptor.InterceptorBinding;
  *
  * This annotation will throw an IllegalStateException if the constructor/method is invoked, but the metric no longer
  * exists in the MetricRegistry.
+ *
+ * <p>
+ * The timed element may be invoked on a virtual thread. The recorded duration is the wall-clock duration of the
+ * invocation, including the time the virtual thread is parked, regardless of the carrier threads it runs on.
+ * </p>
  */
 @Inherited
 @Documented
@@ -138,4 +144,29 @@ public @interface Timed {
     @Nonbinding
     String scope() default MetricRegistry.APPLICATION_SCOPE;
 
+    /**
+     * The quantities measured for each invocation. The wall-clock duration is always recorded by the timer, while each
+     * other {@link Timer.Measure} is recorded by a sibling metric as described by the constant.
+     *
+     * @return The quantities measured for each invocation. By default, the value is {@link Timer.Measure#WALL}.
+     *
+     * @since 5.2
+     */
+    @Nonbinding
+    Timer.Measure[] measure() default {Timer.Measure.WALL};
+
+    /**
+     * The fraction of invocations whose duration is measured. Every invocation is counted, but the duration of only one
+     * in every {@code round(1 / samplingRate)} invocations on a thread is measured, and the elapsed time and the bucket
+     * counts of the timer are scaled accordingly. The rate can be overridden with the MicroProfile Config property
+     * {@code mp.metrics.distribution.timer.sampling}.
+     *
+     * @return The sampling rate, greater than 0 and at most 1. By default, the value is {@code 1}, which measures every
+     *         invocation.
+     *
+     * @since 5.2
+     */
+    @Nonbinding
+    double samplingRate() default 1.0;
+
 }
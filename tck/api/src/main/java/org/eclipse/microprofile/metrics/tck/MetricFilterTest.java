@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *               2010-2013 Coda Hale, Yammer.com
  *
  * See the NOTICES file(s) distributed with this work for additional
@@ -26,6 +26,7 @@ package org.eclipse.microprofile.metrics.tck;
 import org.eclipse.microprofile.metrics.Metric;
 import org.eclipse.microprofile.metrics.MetricFilter;
 import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.junit.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -49,4 +50,59 @@ public class MetricFilterTest {
     public void theAllFilterMatchesAllMetrics() throws Exception {
         Assert.assertTrue(MetricFilter.ALL.matches(new MetricID(""), metric));
     }
+
+    @Test
+    public void theByNameFilterMatchesAnyOfTheNames() throws Exception {
+        MetricFilter.ByName filter = MetricFilter.byName("alpha", "beta");
+        Assert.assertTrue(filter.matches(new MetricID("alpha"), metric));
+        Assert.assertTrue(filter.matches(new MetricID("beta", new Tag("colour", "blue")), metric));
+        Assert.assertFalse(filter.matches(new MetricID("alphabet"), metric));
+        Assert.assertTrue(filter.getNames().contains("alpha"));
+        Assert.assertEquals(2, filter.getNames().size());
+        Assert.assertEquals(filter, MetricFilter.byName("alpha", "beta"));
+    }
+
+    @Test
+    public void theByNamePrefixFilterMatchesAnyOfThePrefixes() throws Exception {
+        MetricFilter.ByNamePrefix filter = MetricFilter.byNamePrefix("alpha.", "beta");
+        Assert.assertTrue(filter.matches(new MetricID("alpha.count"), metric));
+        Assert.assertTrue(filter.matches(new MetricID("beta"), metric));
+        Assert.assertTrue(filter.matches(new MetricID("betamax"), metric));
+        Assert.assertFalse(filter.matches(new MetricID("alpha"), metric));
+        Assert.assertEquals(2, filter.getPrefixes().size());
+    }
+
+    @Test
+    public void theByTagFilterMatchesTagNameAndValue() throws Exception {
+        MetricFilter.ByTag filter = MetricFilter.byTag("tenant", "acme");
+        Assert.assertTrue(filter.matches(new MetricID("a", new Tag("tenant", "acme")), metric));
+        Assert.assertTrue(filter.matches(new MetricID("b", new Tag("tenant", "acme"), new Tag("colour", "red")),
+                metric));
+        Assert.assertFalse(filter.matches(new MetricID("a", new Tag("tenant", "other")), metric));
+        Assert.assertFalse(filter.matches(new MetricID("a", new Tag("owner", "acme")), metric));
+        Assert.assertFalse(filter.matches(new MetricID("a"), metric));
+        Assert.assertEquals(new Tag("tenant", "acme"), filter.getTag());
+    }
+
+    @Test
+    public void theNameFiltersRejectNull() throws Exception {
+        assertThrowsNullPointerException(() -> MetricFilter.byName((String[]) null));
+        assertThrowsNullPointerException(() -> MetricFilter.byName("alpha", null));
+        assertThrowsNullPointerException(() -> MetricFilter.byNamePrefix((String[]) null));
+        assertThrowsNullPointerException(() -> MetricFilter.byNamePrefix(null, "beta"));
+    }
+
+    private static void assertThrowsNullPointerException(Runnable runnable) {
+        try {
+            runnable.run();
+            Assert.fail("A null name or prefix should be rejected");
+        } catch (NullPointerException expected) {
+            // a null name could never match and would fail an index lookup
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void theByTagFilterRejectsInvalidTagNames() throws Exception {
+        MetricFilter.byTag("not-a-tag", "value");
+    }
 }
@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricFilter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricRegistryListener;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class MetricRegistryListenerTest {
+
+    @Inject
+    private MetricRegistry registry;
+
+    private RecordingListener listener;
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(WebArchive.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml");
+    }
+
+    @Before
+    public void addListener() {
+        listener = new RecordingListener();
+        try {
+            registry.addListener(listener);
+        } catch (UnsupportedOperationException e) {
+            listener = null;
+        }
+        Assume.assumeTrue("Listeners are not supported", listener != null);
+    }
+
+    @After
+    public void removeListener() {
+        if (listener != null) {
+            registry.removeListener(listener);
+        }
+    }
+
+    @Test
+    public void testAddedIsNotifiedOncePerMetricID() {
+        Metadata metadata = Metadata.builder().withName("listener.added").withDescription("added counter").build();
+        Counter counter = registry.counter(metadata);
+        // get-or-create of the same metric does not register a new metric
+        registry.counter(metadata);
+        registry.counter(metadata, new Tag("a", "b"));
+
+        assertThat(listener.events, contains("added listener.added", "added listener.added{a=\"b\"}"));
+        assertThat("The registered metric should be passed to the listener", listener.lastMetric,
+                is(notNullValue()));
+        assertThat("The metadata should be passed to the listener", listener.lastMetadata.getDescription(),
+                is(equalTo("added counter")));
+        assertThat(registry.getCounter(new MetricID("listener.added")), is(sameInstance(counter)));
+    }
+
+    @Test
+    public void testEventsAreDeliveredInOrder() {
+        registry.counter("listener.order.a");
+        registry.histogram("listener.order.b");
+        registry.remove(new MetricID("listener.order.a"));
+        registry.counter("listener.order.a");
+        registry.remove("listener.order.b");
+
+        assertThat(listener.events, contains("added listener.order.a", "added listener.order.b",
+                "removed listener.order.a", "added listener.order.a", "removed listener.order.b"));
+    }
+
+    @Test
+    public void testRemoveMatchingNotifiesEachRemovedMetric() {
+        registry.counter("listener.tenant", new Tag("tenant", "one"), new Tag("kind", "x"));
+        registry.counter("listener.tenant", new Tag("tenant", "one"), new Tag("kind", "y"));
+        registry.counter("listener.tenant", new Tag("tenant", "two"), new Tag("kind", "x"));
+        registry.histogram("listener.tenant.size", new Tag("tenant", "one"));
+        listener.events.clear();
+
+        registry.removeMatching(MetricFilter.byTag("tenant", "one"));
+
+        assertThat(listener.events, containsInAnyOrder(
+                "removed listener.tenant{kind=\"x\",tenant=\"one\"}",
+                "removed listener.tenant{kind=\"y\",tenant=\"one\"}",
+                "removed listener.tenant.size{tenant=\"one\"}"));
+
+        listener.events.clear();
+        registry.removeMatching(MetricFilter.byTag("tenant", "one"));
+        assertThat("Nothing was removed", listener.events, is(empty()));
+        registry.removeMatching(MetricFilter.byName("listener.tenant"));
+    }
+
+    @Test
+    public void testCallbacksMayUseTheRegistry() {
+        MetricRegistryListener reentrant = new MetricRegistryListener() {
+            @Override
+            public void onAdded(MetricID metricID, Metric metric, Metadata metadata) {
+                listener.events.add("visible " + metricID.getName() + " " + (registry.getMetric(metricID) == metric));
+            }
+
+            @Override
+            public void onRemoved(MetricID metricID) {
+                listener.events.add("gone " + metricID.getName() + " " + (registry.getMetric(metricID) == null));
+            }
+        };
+        registry.addListener(reentrant);
+        try {
+            registry.counter("listener.reentrant");
+            registry.remove("listener.reentrant");
+        } finally {
+            registry.removeListener(reentrant);
+        }
+
+        assertThat(listener.events, contains("added listener.reentrant", "visible listener.reentrant true",
+                "removed listener.reentrant", "gone listener.reentrant true"));
+    }
+
+    @Test
+    public void testFailingAndRemovedListeners() {
+        MetricRegistryListener failing = new MetricRegistryListener() {
+            @Override
+            public void onAdded(MetricID metricID, Metric metric, Metadata metadata) {
+                throw new IllegalStateException("failing listener");
+            }
+        };
+        registry.addListener(failing);
+        try {
+            registry.counter("listener.failing");
+        } finally {
+            assertThat("The listener should have been removed", registry.removeListener(failing), is(true));
+        }
+        assertThat("The metric should have been registered", registry.getCounter(new MetricID("listener.failing")),
+                is(notNullValue()));
+        assertThat("The listener has already been removed", registry.removeListener(failing), is(false));
+
+        registry.removeListener(listener);
+        registry.counter("listener.unobserved");
+        assertThat(listener.events, contains("added listener.failing"));
+        assertThat(registry.getMetric(new MetricID("listener.unobserved")), is(notNullValue()));
+    }
+
+    private static class RecordingListener implements MetricRegistryListener {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile Metric lastMetric;
+        private volatile Metadata lastMetadata;
+
+        @Override
+        public void onAdded(MetricID metricID, Metric metric, Metadata metadata) {
+            lastMetric = metric;
+            lastMetadata = metadata;
+            events.add("added " + format(metricID));
+        }
+
+        @Override
+        public void onRemoved(MetricID metricID) {
+            events.add("removed " + format(metricID));
+        }
+
+        private static String format(MetricID metricID) {
+            if (metricID.getTags().isEmpty()) {
+                return metricID.getName();
+            }
+            StringBuilder sb = new StringBuilder(metricID.getName()).append('{');
+            metricID.getTags().forEach((key, value) -> {
+                if (sb.charAt(sb.length() - 1) != '{') {
+                    sb.append(',');
+                }
+                sb.append(key).append("=\"").append(value).append('"');
+            });
+            return sb.append('}').toString();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -24,11 +24,17 @@ package org.eclipse.microprofile.metrics.tck;
 
 import static org.junit.Assert.assertNotNull;
 
+import java.util.EnumSet;
+
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
 import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricFilter;
 import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
 import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
 import org.eclipse.microprofile.metrics.annotation.Metric;
 import org.eclipse.microprofile.metrics.annotation.RegistryScope;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
@@ -143,6 +149,48 @@ public class MetricRegistryTest {
         Assert.assertEquals(vendorMetrics, vendorMetrics_RegistryType);
     }
 
+    @Test
+    @InSequence(8)
+    public void testStructuredFilters() {
+        Tag acme = new Tag("tenant", "acme");
+        Tag other = new Tag("tenant", "other");
+        metrics.counter("filter.requests", acme);
+        metrics.counter("filter.requests", other);
+        metrics.histogram("filter.sizes", acme);
+        metrics.counter("unfiltered.requests", acme);
+
+        Assert.assertEquals(2, metrics.getMetrics(MetricFilter.byName("filter.requests")).size());
+        Assert.assertEquals(3, metrics.getMetrics(MetricFilter.byNamePrefix("filter.")).size());
+        Assert.assertEquals(1, metrics.getCounters(MetricFilter.byNamePrefix("unfiltered.")).size());
+        Assert.assertEquals(3, metrics.getMetrics(MetricFilter.byTag("tenant", "acme")).size());
+        Assert.assertEquals(1, metrics.getHistograms(MetricFilter.byTag("tenant", "acme")).size());
+
+        metrics.removeMatching(MetricFilter.byTag("tenant", "acme"));
+        Assert.assertTrue(metrics.getMetrics(MetricFilter.byTag("tenant", "acme")).isEmpty());
+        Assert.assertNull(metrics.getMetric(new MetricID("unfiltered.requests", acme)));
+        assertExists(Counter.class, new MetricID("filter.requests", other));
+
+        metrics.removeMatching(MetricFilter.byNamePrefix("filter."));
+        Assert.assertTrue(metrics.getMetrics(MetricFilter.byName("filter.requests")).isEmpty());
+    }
+
+    @Test
+    @InSequence(9)
+    public void testTimerWithMeasures() {
+        Tag tag = new Tag("colour", "green");
+        Metadata metadata = Metadata.builder().withName("measuredTimer").build();
+        Timer timer = metrics.timer(metadata, EnumSet.of(Timer.Measure.CPU, Timer.Measure.ALLOCATION), tag);
+
+        Assert.assertNotNull(timer);
+        Assert.assertSame(timer, metrics.getTimer(new MetricID("measuredTimer", tag)));
+        assertExists(Timer.class, new MetricID("measuredTimer.cpu", tag));
+        assertExists(Histogram.class, new MetricID("measuredTimer.allocation", tag));
+        Assert.assertEquals(MetricUnits.BYTES, metrics.getMetadata("measuredTimer.allocation").getUnit());
+
+        // get-or-create semantics apply to the sibling metrics as well
+        Assert.assertSame(timer, metrics.timer(metadata, EnumSet.of(Timer.Measure.CPU), tag));
+    }
+
     private void assertExists(Class<? extends org.eclipse.microprofile.metrics.Metric> expected, MetricID metricID) {
         assertNotNull("Metric expected to exist but was undefined: " + metricID, metrics.getMetric(metricID, expected));
     }
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricFilter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricRegistryListener;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.junit.InSequence;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+/*
+ * See /microprofile-metrics-api-tck/src/main/resources/META-INF/microprofile-config-metricExpiryTest.properties for the
+ * MP Config property configuration
+ */
+public class MetricExpiryTest {
+
+    // the configured expiry of the metrics matching expiry.*
+    private static final long EXPIRY_MILLIS = 1000;
+
+    // an idle metric should be removed within twice the expiry, the rest allows for a slow test environment
+    private static final long MAX_WAIT_MILLIS = 10 * EXPIRY_MILLIS;
+
+    private static final long UPDATE_INTERVAL_MILLIS = 100;
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        WebArchive jar = ShrinkWrap.create(WebArchive.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml")
+                .addAsManifestResource("META-INF/microprofile-config-metricExpiryTest.properties",
+                        "microprofile-config.properties");
+
+        System.out.println(jar.toString(true));
+        return jar;
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Test
+    @InSequence(1)
+    public void activeMetricsAreNeverExpired() throws InterruptedException {
+        Tag customer = new Tag("customer", "active");
+        Counter counter = registry.counter("expiry.active.counter", customer);
+        Histogram histogram = registry.histogram("expiry.active.histogram", customer);
+        Timer timer = registry.timer("expiry.active.timer", customer);
+
+        // updated for three times the expiry, with an interval well below the expiry
+        long updates = 3 * EXPIRY_MILLIS / UPDATE_INTERVAL_MILLIS;
+        for (int i = 0; i < updates; i++) {
+            counter.inc();
+            histogram.update(i);
+            timer.update(Duration.ofMillis(i));
+            // obtaining a metric with a get-or-create method is an activity as well
+            registry.counter("expiry.active.lookup", customer).inc();
+
+            assertThat("An updated counter must not be expired",
+                    registry.getCounter(new MetricID("expiry.active.counter", customer)), sameInstance(counter));
+            assertThat("An updated histogram must not be expired",
+                    registry.getHistogram(new MetricID("expiry.active.histogram", customer)), sameInstance(histogram));
+            assertThat("An updated timer must not be expired",
+                    registry.getTimer(new MetricID("expiry.active.timer", customer)), sameInstance(timer));
+
+            Thread.sleep(UPDATE_INTERVAL_MILLIS);
+        }
+
+        assertThat(counter.getCount(), equalTo(updates));
+        assertThat(histogram.getCount(), equalTo(updates));
+        assertThat(timer.getCount(), equalTo(updates));
+        assertThat("A metric obtained with a get-or-create method must not be expired",
+                registry.getCounter(new MetricID("expiry.active.lookup", customer)).getCount(), equalTo(updates));
+
+        registry.removeMatching(MetricFilter.byNamePrefix("expiry.active."));
+    }
+
+    @Test
+    @InSequence(2)
+    public void idleMetricsAreExpired() throws InterruptedException {
+        Tag customer = new Tag("customer", "idle");
+        MetricID idle = new MetricID("expiry.idle", customer);
+        MetricID never = new MetricID("expiry.never", customer);
+        MetricID unmatched = new MetricID("unmatched.idle", customer);
+        MetricID gauge = new MetricID("expiry.gauge", customer);
+
+        List<MetricID> removed = new CopyOnWriteArrayList<>();
+        MetricRegistryListener listener = new MetricRegistryListener() {
+            @Override
+            public void onRemoved(MetricID metricID) {
+                if (metricID.getTags().containsValue("idle")) {
+                    removed.add(metricID);
+                }
+            }
+        };
+        // listeners are optional, the expiry is checked without them
+        boolean listening;
+        try {
+            registry.addListener(listener);
+            listening = true;
+        } catch (UnsupportedOperationException e) {
+            listening = false;
+        }
+        try {
+            Counter counter = registry.counter(idle.getName(), customer);
+            counter.inc(5);
+            registry.counter(never.getName(), customer).inc();
+            registry.counter(unmatched.getName(), customer).inc();
+            registry.gauge(gauge.getName(), () -> 42L, customer);
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+            // reading the metric is not an activity
+            while (registry.getCounter(idle) != null && System.nanoTime() < deadline) {
+                assertThat(counter.getCount(), equalTo(5L));
+                Thread.sleep(UPDATE_INTERVAL_MILLIS);
+            }
+
+            assertThat("An idle counter must be expired", registry.getCounter(idle), nullValue());
+            if (listening) {
+                assertThat("Listeners must be notified of the expiry", removed, contains(idle));
+            }
+            assertThat("A metric with a disabled expiry must not be expired", registry.getCounter(never),
+                    notNullValue());
+            assertThat("A metric that does not match the property must not be expired",
+                    registry.getCounter(unmatched), notNullValue());
+            assertThat("A gauge must not be expired", registry.getGauge(gauge), notNullValue());
+
+            assertThat("An expired metric must be registered again from zero",
+                    registry.counter(idle.getName(), customer).getCount(), equalTo(0L));
+        } finally {
+            if (listening) {
+                registry.removeListener(listener);
+            }
+            registry.removeMatching(MetricFilter.byTag("customer", "idle"));
+        }
+    }
+}
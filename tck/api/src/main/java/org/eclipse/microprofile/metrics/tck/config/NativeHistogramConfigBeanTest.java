@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot.ExponentialBuckets;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+/*
+ * See /microprofile-metrics-api-tck/src/main/resources/META-INF/microprofile-config-nativeHistogramConfigBeanTest.
+ * properties for the MP Config property configuration
+ */
+public class NativeHistogramConfigBeanTest {
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        WebArchive jar = ShrinkWrap.create(WebArchive.class)
+                // Test bean
+                .addClass(NativeHistogramConfigBean.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml")
+                .addAsManifestResource("META-INF/microprofile-config-nativeHistogramConfigBeanTest.properties",
+                        "microprofile-config.properties");
+
+        System.out.println(jar.toString(true));
+        return jar;
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Inject
+    private NativeHistogramConfigBean bean;
+
+    @Test
+    public void checkBucketIndex() {
+        assertThat(ExponentialBuckets.bucketIndex(1.0, 0), equalTo(0));
+        assertThat(ExponentialBuckets.bucketIndex(2.0, 0), equalTo(1));
+        assertThat(ExponentialBuckets.bucketIndex(3.0, 0), equalTo(2));
+        assertThat(ExponentialBuckets.bucketIndex(4.0, 0), equalTo(2));
+        assertThat(ExponentialBuckets.bucketIndex(0.5, 0), equalTo(-1));
+        assertThat(ExponentialBuckets.bucketIndex(1024.0, -1), equalTo(5));
+        assertThat(ExponentialBuckets.bucketIndex(2.0, 3), equalTo(8));
+        assertThat(ExponentialBuckets.bucketUpperBound(8, 3), equalTo(2.0));
+
+        for (int schema = ExponentialBuckets.MIN_SCHEMA; schema <= ExponentialBuckets.MAX_SCHEMA; schema++) {
+            for (double value : new double[]{0.001, 0.3, 1.5, 7.0, 100.0, 123456.789}) {
+                int index = ExponentialBuckets.bucketIndex(value, schema);
+                assertThat("Value " + value + " must not exceed the upper bound for schema " + schema, value,
+                        lessThanOrEqualTo(ExponentialBuckets.bucketUpperBound(index, schema)));
+                assertThat("Value " + value + " must exceed the lower bound for schema " + schema, value,
+                        greaterThan(ExponentialBuckets.bucketUpperBound(index - 1, schema)));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkInvalidSchema() {
+        ExponentialBuckets.bucketIndex(1.0, ExponentialBuckets.MAX_SCHEMA + 1);
+    }
+
+    @Test
+    public void checkHistogramNotEnabled() {
+        Histogram histogram = registry.getHistogram(new MetricID("plain.histogram"));
+        histogram.update(5);
+        assertThat("Exponential buckets must not be tracked unless enabled",
+                histogram.getSnapshot().exponentialBucketValues(), nullValue());
+
+        Histogram disabled = registry.getHistogram(new MetricID("native.histogram.disabled"));
+        disabled.update(5);
+        assertThat("Exponential buckets must not be tracked when disabled through precedence",
+                disabled.getSnapshot().exponentialBucketValues(), nullValue());
+    }
+
+    @Test
+    public void checkHistogramExponentialBuckets() {
+        Histogram histogram = registry.getHistogram(new MetricID("native.histogram"));
+        for (long value : new long[]{0, 1, 2, 3, 100, 100}) {
+            histogram.update(value);
+        }
+
+        ExponentialBuckets buckets = histogram.getSnapshot().exponentialBucketValues();
+        Assume.assumeThat("Exponential histogram-buckets are not supported", buckets, notNullValue());
+
+        assertThat("Configured schema does not match", buckets.getSchema(), equalTo(2));
+        assertThat("Zero value must be counted in the zero bucket", buckets.getZeroCount(),
+                greaterThanOrEqualTo(1L));
+        assertThat("Negative buckets must be empty", buckets.getNegativeIndexes().length, equalTo(0));
+        assertThat(buckets.getPositiveIndexes().length, equalTo(buckets.getPositiveCounts().length));
+        assertThat("Bucket counts do not add up to the histogram count",
+                buckets.getZeroCount() + Arrays.stream(buckets.getPositiveCounts()).sum(),
+                equalTo(histogram.getCount()));
+
+        int[] indexes = buckets.getPositiveIndexes();
+        for (int i = 1; i < indexes.length; i++) {
+            assertThat("Bucket indexes must be in ascending order", indexes[i - 1], lessThan(indexes[i]));
+        }
+        assertThat(countAt(buckets, ExponentialBuckets.bucketIndex(100, 2)), equalTo(2L));
+    }
+
+    @Test
+    public void checkTimerExponentialBuckets() {
+        Timer timer = registry.getTimer(new MetricID("native.timer"));
+        timer.update(Duration.ofSeconds(2));
+        timer.update(Duration.ofMillis(250));
+
+        ExponentialBuckets buckets = timer.getSnapshot().exponentialBucketValues();
+        Assume.assumeThat("Exponential histogram-buckets are not supported", buckets, notNullValue());
+
+        // timer buckets are computed over durations in seconds
+        int schema = buckets.getSchema();
+        assertThat(countAt(buckets, ExponentialBuckets.bucketIndex(2.0, schema)), equalTo(1L));
+        assertThat(countAt(buckets, ExponentialBuckets.bucketIndex(0.25, schema)), equalTo(1L));
+    }
+
+    private static long countAt(ExponentialBuckets buckets, int index) {
+        int[] indexes = buckets.getPositiveIndexes();
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] == index) {
+                return buckets.getPositiveCounts()[i];
+            }
+        }
+        return 0;
+    }
+
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricFilter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.eclipse.microprofile.metrics.Snapshot.HistogramBucket;
+import org.eclipse.microprofile.metrics.Snapshot.PercentileValue;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+/*
+ * See /microprofile-metrics-api-tck/src/main/resources/META-INF/microprofile-config-offHeapConfigTest.properties for
+ * the MP Config property configuration. The storage of a histogram or timer is not observable through the API, so these
+ * tests pass whether or not the implementation supports off-heap storage.
+ */
+public class OffHeapConfigTest {
+
+    private static final int THREADS = 8;
+
+    private static final int UPDATES_PER_THREAD = 10_000;
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        WebArchive jar = ShrinkWrap.create(WebArchive.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml")
+                .addAsManifestResource("META-INF/microprofile-config-offHeapConfigTest.properties",
+                        "microprofile-config.properties");
+
+        System.out.println(jar.toString(true));
+        return jar;
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Test
+    public void checkHistogramStatistics() {
+        Histogram offHeap = registry.histogram("offheap.histogram");
+        Histogram heap = registry.histogram("offheap.heap.histogram");
+        for (long value = 1; value <= 1000; value++) {
+            offHeap.update(value);
+            heap.update(value);
+        }
+
+        assertThat(offHeap.getCount(), equalTo(1000L));
+        assertThat(offHeap.getSum(), equalTo(500_500L));
+        assertSameStatistics(offHeap.getSnapshot(), heap.getSnapshot());
+        assertThat(buckets(offHeap.getSnapshot()), contains(10L, 100L, 1000L));
+        assertPercentiles(offHeap.getSnapshot(), 1, 1000);
+    }
+
+    @Test
+    public void checkTimerStatistics() {
+        Timer offHeap = registry.timer("offheap.timer");
+        Timer heap = registry.timer("offheap.heap.timer");
+        for (long millis = 1; millis <= 200; millis++) {
+            offHeap.update(Duration.ofMillis(millis));
+            heap.update(Duration.ofMillis(millis));
+        }
+
+        assertThat(offHeap.getCount(), equalTo(200L));
+        assertThat(offHeap.getElapsedTime(), equalTo(Duration.ofMillis(20_100)));
+        assertSameStatistics(offHeap.getSnapshot(), heap.getSnapshot());
+        assertThat(buckets(offHeap.getSnapshot()), contains(10L, 100L, 200L));
+        assertPercentiles(offHeap.getSnapshot(), TimeUnit.MILLISECONDS.toNanos(1),
+                TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    public void checkConcurrentUpdatesAreNotLost() throws Exception {
+        Histogram histogram = registry.histogram("offheap.concurrent.histogram");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        histogram.update(i % 20);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long total = (long) THREADS * UPDATES_PER_THREAD;
+        assertThat("Every update must be counted", histogram.getCount(), equalTo(total));
+        assertThat("Every update must be summed", histogram.getSum(), equalTo(THREADS * 95L * UPDATES_PER_THREAD / 10));
+        assertThat("Every update must be counted in the buckets", buckets(histogram.getSnapshot()),
+                contains(total * 11 / 20, total, total));
+    }
+
+    @Test
+    public void checkReusedStorageStartsFromZero() {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                Tag tag = new Tag("tenant", String.valueOf(i));
+                Histogram histogram = registry.histogram("offheap.reused.histogram", tag);
+                Timer timer = registry.timer("offheap.reused.timer", tag);
+
+                assertThat("A registered histogram must start from zero", histogram.getCount(), equalTo(0L));
+                assertThat("A registered histogram must start from zero", histogram.getSum(), equalTo(0L));
+                assertThat("A registered histogram must start from zero", buckets(histogram.getSnapshot()),
+                        contains(0L, 0L, 0L));
+                assertThat("A registered timer must start from zero", timer.getCount(), equalTo(0L));
+                assertThat("A registered timer must start from zero", timer.getElapsedTime(),
+                        equalTo(Duration.ZERO));
+
+                histogram.update(5 + i);
+                timer.update(Duration.ofMillis(5 + i));
+            }
+            registry.removeMatching(MetricFilter.byNamePrefix("offheap.reused."));
+        }
+    }
+
+    private static void assertSameStatistics(Snapshot actual, Snapshot expected) {
+        assertThat("Snapshot size must not depend on the storage", actual.size(), equalTo(expected.size()));
+        assertThat("Maximum must not depend on the storage", actual.getMax(), equalTo(expected.getMax()));
+        assertThat("Buckets must not depend on the storage", buckets(actual), equalTo(buckets(expected)));
+    }
+
+    private static void assertPercentiles(Snapshot snapshot, double min, double max) {
+        List<Double> percentiles = Stream.of(snapshot.percentileValues()).map(PercentileValue::getPercentile)
+                .collect(Collectors.toList());
+        assertThat("Configured percentiles do not match", percentiles, containsInAnyOrder(0.5, 0.99));
+        for (PercentileValue value : snapshot.percentileValues()) {
+            assertThat(value.getValue(), greaterThanOrEqualTo(min));
+            assertThat(value.getValue(), lessThanOrEqualTo(max));
+        }
+    }
+
+    // the counts of the histogram-buckets in ascending order of their upper bounds
+    private static List<Long> buckets(Snapshot snapshot) {
+        return Stream.of(snapshot.bucketValues()).sorted(Comparator.comparingDouble(HistogramBucket::getBucket))
+                .map(HistogramBucket::getCount).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.config;
+
+import org.eclipse.microprofile.metrics.annotation.Timed;
+
+import jakarta.enterprise.context.Dependent;
+
+@Dependent
+public class TimerSamplingBean {
+
+    public static final long SLEEP_MILLIS = 20;
+
+    @Timed(name = "sampled.hot", absolute = true, samplingRate = 0.01)
+    public void hotMethod() {
+    }
+
+    @Timed(name = "sampled.annotation", absolute = true, samplingRate = 0.1)
+    public void annotationSampledMethod(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @Timed(name = "sampled.config", absolute = true)
+    public void configSampledMethod(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
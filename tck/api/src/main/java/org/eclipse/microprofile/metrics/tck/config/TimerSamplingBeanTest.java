@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.junit.InSequence;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+/*
+ * See /microprofile-metrics-api-tck/src/main/resources/META-INF/microprofile-config-timerSamplingBeanTest.properties
+ * for the MP Config property configuration
+ */
+public class TimerSamplingBeanTest {
+
+    private static final int THREADS = 8;
+
+    private static final int INVOCATIONS_PER_THREAD = 10_000;
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        WebArchive jar = ShrinkWrap.create(WebArchive.class)
+                // Test bean
+                .addClass(TimerSamplingBean.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml")
+                .addAsManifestResource("META-INF/microprofile-config-timerSamplingBeanTest.properties",
+                        "microprofile-config.properties");
+
+        System.out.println(jar.toString(true));
+        return jar;
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Inject
+    private TimerSamplingBean bean;
+
+    @Test
+    @InSequence(1)
+    public void sampledCountIsExact() {
+        Timer timer = registry.getTimer(new MetricID("sampled.hot"));
+        long count = timer.getCount();
+
+        for (int i = 0; i < 1234; i++) {
+            bean.hotMethod();
+        }
+
+        assertThat("Every invocation of a sampled timer must be counted", timer.getCount(),
+                equalTo(count + 1234));
+    }
+
+    @Test
+    @InSequence(2)
+    public void sampledCountIsExactWithConcurrentInvocations() throws Exception {
+        Timer timer = registry.getTimer(new MetricID("sampled.hot"));
+        long count = timer.getCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < INVOCATIONS_PER_THREAD; i++) {
+                        bean.hotMethod();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat("Every invocation of a sampled timer must be counted", timer.getCount(),
+                equalTo(count + THREADS * INVOCATIONS_PER_THREAD));
+    }
+
+    @Test
+    @InSequence(3)
+    public void annotationSampledElapsedTimeIsScaled() throws InterruptedException {
+        Timer timer = registry.getTimer(new MetricID("sampled.annotation"));
+
+        // one in 10 invocations is measured, so 100 invocations record exactly 10 durations
+        for (int i = 0; i < 100; i++) {
+            bean.annotationSampledMethod(sleepMillis(i, 10));
+        }
+
+        assertThat(timer.getCount(), equalTo(100L));
+        assertSampled(timer, 100);
+    }
+
+    @Test
+    @InSequence(4)
+    public void configSampledElapsedTimeIsScaled() throws InterruptedException {
+        Timer timer = registry.getTimer(new MetricID("sampled.config"));
+
+        for (int i = 0; i < 100; i++) {
+            bean.configSampledMethod(sleepMillis(i, 10));
+        }
+
+        assertThat(timer.getCount(), equalTo(100L));
+        assertSampled(timer, 100);
+    }
+
+    /*
+     * Only the invocations that must be sampled, one in every n invocations on a thread starting with the first, sleep,
+     * so that recording the durations of other invocations lowers the mean and the elapsed time
+     */
+    private static long sleepMillis(int invocation, int n) {
+        return invocation % n == 0 ? TimerSamplingBean.SLEEP_MILLIS : 0;
+    }
+
+    private static void assertSampled(Timer timer, long invocations) {
+        long sleepNanos = TimeUnit.MILLISECONDS.toNanos(TimerSamplingBean.SLEEP_MILLIS);
+        assertThat("Only the sampled invocations must be recorded", timer.getSnapshot().getMean(),
+                greaterThanOrEqualTo((double) sleepNanos));
+        // the estimate is the sum of the sampled durations multiplied by the sampling interval
+        assertThat("Elapsed time must be scaled by the sampling rate", timer.getElapsedTime().toNanos(),
+                greaterThanOrEqualTo(invocations * sleepNanos));
+        assertThat("Snapshot size must be scaled by the sampling rate", timer.getSnapshot().size(),
+                equalTo(invocations));
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.export;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.eclipse.microprofile.metrics.Snapshot.HistogramBucket;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.eclipse.microprofile.metrics.tck.export.MetricsFileReader.Series;
+import org.eclipse.microprofile.metrics.tck.export.MetricsFileReader.Type;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.junit.InSequence;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+/*
+ * See /microprofile-metrics-api-tck/src/main/resources/META-INF/microprofile-config-metricsFileExportTest.properties
+ * for the MP Config property configuration
+ */
+public class MetricsFileExportTest {
+
+    private static final Path FILE = Paths.get(System.getProperty("java.io.tmpdir"), "microprofile-metrics-tck.mmap");
+
+    private static final String SCOPE = MetricRegistry.APPLICATION_SCOPE;
+
+    private static final Tag TAG = new Tag("customer", "export");
+
+    private static final Map<String, String> TAGS = Collections.singletonMap("customer", "export");
+
+    // the configured interval is 100ms, the rest allows for a slow test environment
+    private static final long MAX_WAIT_MILLIS = 10_000;
+
+    // whether the file was written after the deployment, looked up once for all tests
+    private static Boolean supported;
+
+    @Deployment
+    static Archive<?> createTestArchive() throws IOException {
+        // a file left by a previous run must not be mistaken for the file of this deployment
+        Files.deleteIfExists(FILE);
+
+        WebArchive jar = ShrinkWrap.create(WebArchive.class)
+                // Reader of the metrics file
+                .addClass(MetricsFileReader.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml")
+                .addAsManifestResource("META-INF/microprofile-config-metricsFileExportTest.properties",
+                        "microprofile-config.properties");
+
+        System.out.println(jar.toString(true));
+        return jar;
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Test
+    @InSequence(1)
+    public void checkValuesMatchRegistry() throws Exception {
+        Counter counter = registry.counter("export.counter", TAG);
+        counter.inc(7);
+        registry.gauge("export.gauge", () -> 3.5, TAG);
+        Histogram histogram = registry.histogram(
+                Metadata.builder().withName("export.histogram").withUnit(MetricUnits.BYTES).build(), TAG);
+        for (long value = 1; value <= 100; value++) {
+            histogram.update(value);
+        }
+        Timer timer = registry.timer("export.timer", TAG);
+        Stream.of(5, 50, 500).forEach(millis -> timer.update(Duration.ofMillis(millis)));
+
+        try (MetricsFileReader reader = openFile()) {
+            Series series = await(reader, "export.counter", s -> s.getCount() == 7);
+            assertThat(series.getType(), equalTo(Type.COUNTER));
+            assertThat("Counter value does not match the registry", series.getCount(),
+                    equalTo(counter.getCount()));
+
+            series = await(reader, "export.gauge", s -> s.getValue() == 3.5);
+            assertThat(series.getType(), equalTo(Type.GAUGE));
+
+            series = await(reader, "export.histogram", s -> s.getCount() == 100);
+            assertThat(series.getType(), equalTo(Type.HISTOGRAM));
+            assertThat(series.getUnit(), equalTo(MetricUnits.BYTES));
+            assertThat("Histogram sum does not match the registry", series.getSum(), equalTo(histogram.getSum()));
+            assertThat(series.getMax(), greaterThan(0.0));
+            assertThat(series.getMax(), lessThanOrEqualTo(100.0));
+            assertBuckets(series, histogram.getSnapshot(), 10, 100);
+
+            series = await(reader, "export.timer", s -> s.getCount() == 3);
+            assertThat(series.getType(), equalTo(Type.TIMER));
+            assertThat("Timer elapsed time does not match the registry", series.getSum(),
+                    equalTo(timer.getElapsedTime().toNanos()));
+            assertBuckets(series, timer.getSnapshot(), TimeUnit.MILLISECONDS.toNanos(10),
+                    TimeUnit.MILLISECONDS.toNanos(100));
+        }
+    }
+
+    @Test
+    @InSequence(2)
+    public void checkUpdatesAndRemovals() throws Exception {
+        try (MetricsFileReader reader = openFile()) {
+            Counter counter = registry.counter("export.counter", TAG);
+            counter.inc();
+            assertThat("Counter update was not written", await(reader, "export.counter", s -> s.getCount() == 8),
+                    notNullValue());
+
+            registry.remove(new MetricID("export.counter", TAG));
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+            while (reader.find(SCOPE, "export.counter", TAGS) != null && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat("A removed metric must be marked as removed", reader.find(SCOPE, "export.counter", TAGS),
+                    nullValue());
+
+            registry.counter("export.counter", TAG).inc(2);
+            assertThat("A metric that is registered again must start from zero",
+                    await(reader, "export.counter", s -> s.getCount() == 2), notNullValue());
+        }
+    }
+
+    @Test
+    @InSequence(3)
+    public void checkHeader() throws Exception {
+        try (MetricsFileReader reader = openFile()) {
+            assertThat(reader.getState(), equalTo(MetricsFileReader.STATE_OPEN));
+            assertThat("The file must be written by this JVM", reader.getPid(),
+                    equalTo(ProcessHandle.current().pid()));
+
+            long lastWrite = reader.getLastWriteMillis();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+            while (reader.getLastWriteMillis() == lastWrite && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat("The values must be written once per interval", reader.getLastWriteMillis(),
+                    greaterThan(lastWrite));
+        }
+    }
+
+    private static MetricsFileReader openFile() throws IOException, InterruptedException {
+        if (supported == null) {
+            // the file is created within the interval if the implementation supports it
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+            while (!isWritten() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            supported = isWritten();
+        }
+        Assume.assumeTrue("Exposing metrics via a memory-mapped file is not supported", supported);
+        return MetricsFileReader.open(FILE);
+    }
+
+    private static boolean isWritten() throws IOException {
+        try {
+            return Files.size(FILE) >= MetricsFileReader.HEADER_SIZE;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // waits until the values of the series have been written
+    private static Series await(MetricsFileReader reader, String name, Predicate<Series> written)
+            throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+        Series series = reader.find(SCOPE, name, TAGS);
+        while ((series == null || !written.test(series)) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            series = reader.find(SCOPE, name, TAGS);
+        }
+        assertThat(name + " was not written to " + FILE, series, notNullValue());
+        assertThat("The values of " + name + " were not written", written.test(series), equalTo(true));
+        return series;
+    }
+
+    private static void assertBuckets(Series series, Snapshot snapshot, double... bounds) {
+        // the file lists the histogram-buckets in ascending order of their upper bounds
+        HistogramBucket[] buckets = Stream.of(snapshot.bucketValues())
+                .sorted(Comparator.comparingDouble(HistogramBucket::getBucket)).toArray(HistogramBucket[]::new);
+        assertThat("Bucket bounds do not match the configuration", series.getBucketBounds(), equalTo(bounds));
+        assertThat(series.getBucketCounts().length, equalTo(buckets.length));
+        for (int i = 0; i < buckets.length; i++) {
+            assertThat("Bucket count does not match the registry", series.getBucketCounts()[i],
+                    equalTo(buckets[i].getCount()));
+        }
+    }
+}
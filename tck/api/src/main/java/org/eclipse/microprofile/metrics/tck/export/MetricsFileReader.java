@@ -0,0 +1,390 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the memory-mapped metrics file defined in the "Exposing metrics via a memory-mapped file" section of the
+ * specification. The file is read without any involvement of the JVM that writes it, so this class may also be used as
+ * a reference by agents that read the file.
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+public final class MetricsFileReader implements Closeable {
+
+    public static final int MAGIC = 0x4D504D46;
+
+    public static final int VERSION = 1;
+
+    public static final long STATE_OPEN = 0;
+
+    public static final long STATE_CLOSED = 1;
+
+    public static final long STATE_REPLACED = 2;
+
+    static final int HEADER_SIZE = 64;
+
+    private static final int END_OFFSET = 8;
+    private static final int STATE_OFFSET = 16;
+    private static final int PID_OFFSET = 24;
+    private static final int LAST_WRITE_OFFSET = 32;
+
+    private static final int MAX_RETRIES = 1000;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    private MetricsFileReader(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Opens the metrics file of the given path.
+     *
+     * @param path
+     *            the path of the metrics file
+     * @return a reader of the file
+     * @throws IOException
+     *             if the file cannot be read or does not start with the header of a supported version
+     */
+    public static MetricsFileReader open(Path path) throws IOException {
+        MetricsFileReader reader = new MetricsFileReader(path);
+        reader.map();
+        return reader;
+    }
+
+    /**
+     * Returns the state of the file, one of {@link #STATE_OPEN}, {@link #STATE_CLOSED} and {@link #STATE_REPLACED}.
+     *
+     * @return the state of the file
+     */
+    public long getState() {
+        return (long) LONGS.getAcquire(buffer, STATE_OFFSET);
+    }
+
+    /**
+     * Returns the process id of the JVM that writes the file.
+     *
+     * @return the process id
+     */
+    public long getPid() {
+        return buffer.getLong(PID_OFFSET);
+    }
+
+    /**
+     * Returns the time of the last write of the values.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getLastWriteMillis() {
+        return (long) LONGS.getAcquire(buffer, LAST_WRITE_OFFSET);
+    }
+
+    /**
+     * Reads the current values of all metrics that have not been removed. If the file has been replaced by a new file
+     * of the same path, the new file is opened first.
+     *
+     * @return the series of the file, in the order of their registration
+     * @throws IOException
+     *             if the file cannot be read or is malformed
+     */
+    public List<Series> read() throws IOException {
+        if (getState() == STATE_REPLACED) {
+            close();
+            map();
+        }
+        long end = (long) LONGS.getAcquire(buffer, END_OFFSET);
+        if (end < HEADER_SIZE || end > buffer.capacity()) {
+            throw new IOException("Invalid end of the series directory " + end + " in " + path);
+        }
+        List<Series> series = new ArrayList<>();
+        int offset = HEADER_SIZE;
+        while (offset < end) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length % 8 != 0 || offset + length > end) {
+                throw new IOException("Invalid record length " + length + " at offset " + offset + " in " + path);
+            }
+            if (buffer.get(offset + 5) == 0) {
+                series.add(readRecord(offset, length));
+            }
+            offset += length;
+        }
+        return series;
+    }
+
+    /**
+     * Finds a metric that has not been removed.
+     *
+     * @param scope
+     *            the scope of the metric
+     * @param name
+     *            the name of the metric
+     * @param tags
+     *            the tags of the metric
+     * @return the series of the metric or {@code null} if the file does not contain the metric
+     * @throws IOException
+     *             if the file cannot be read or is malformed
+     */
+    public Series find(String scope, String name, Map<String, String> tags) throws IOException {
+        for (Series series : read()) {
+            if (series.getScope().equals(scope) && series.getName().equals(name)
+                    && series.getTags().equals(tags)) {
+                return series;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+
+    private void map() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException(path + " is not a metrics file");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported version " + buffer.getInt(4) + " of " + path);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private Series readRecord(int offset, int length) throws IOException {
+        Type type = Type.of(buffer.get(offset + 4));
+        int slots = Short.toUnsignedInt(buffer.getShort(offset + 6));
+        ByteBuffer descriptor = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        descriptor.position(offset + 8);
+        String scope = readString(descriptor);
+        String name = readString(descriptor);
+        String unit = readString(descriptor);
+        int tagCount = Short.toUnsignedInt(descriptor.getShort());
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put(readString(descriptor), readString(descriptor));
+        }
+        int slotOffset = (descriptor.position() + 7) & ~7;
+        if (slots < type.minSlots || slotOffset + slots * 8 > offset + length) {
+            throw new IOException("Invalid value slots of " + name + " at offset " + offset + " in " + path);
+        }
+        return new Series(type, scope, name, unit, Collections.unmodifiableMap(tags),
+                readValues(slotOffset, slots));
+    }
+
+    // reads the slots after the sequence number and retries while they are written
+    private long[] readValues(int slotOffset, int slots) throws IOException {
+        long[] values = new long[slots - 1];
+        for (int retry = 0; retry < MAX_RETRIES; retry++) {
+            long before = (long) LONGS.getAcquire(buffer, slotOffset);
+            if ((before & 1) == 0) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = buffer.getLong(slotOffset + 8 * (i + 1));
+                }
+                VarHandle.loadLoadFence();
+                if ((long) LONGS.getAcquire(buffer, slotOffset) == before) {
+                    return values;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        throw new IOException("The values at offset " + slotOffset + " of " + path + " are not stable");
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The type of a metric in the metrics file.
+     */
+    public enum Type {
+        COUNTER(1, 2), GAUGE(2, 2), HISTOGRAM(3, 4), TIMER(4, 4);
+
+        private final byte code;
+        private final int minSlots;
+
+        Type(int code, int minSlots) {
+            this.code = (byte) code;
+            this.minSlots = minSlots;
+        }
+
+        static Type of(byte code) throws IOException {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IOException("Unknown metric type " + code);
+        }
+    }
+
+    /**
+     * The values of one metric, read from the metrics file at the same time.
+     */
+    public static final class Series {
+
+        private final Type type;
+        private final String scope;
+        private final String name;
+        private final String unit;
+        private final Map<String, String> tags;
+        private final long[] values;
+
+        Series(Type type, String scope, String name, String unit, Map<String, String> tags, long[] values) {
+            this.type = type;
+            this.scope = scope;
+            this.name = name;
+            this.unit = unit;
+            this.tags = tags;
+            this.values = values;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        /**
+         * Returns the count of a counter, histogram or timer.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            requireType(Type.COUNTER, Type.HISTOGRAM, Type.TIMER);
+            return values[0];
+        }
+
+        /**
+         * Returns the value of a gauge.
+         *
+         * @return the value
+         */
+        public double getValue() {
+            requireType(Type.GAUGE);
+            return Double.longBitsToDouble(values[0]);
+        }
+
+        /**
+         * Returns the sum of a histogram or the elapsed time of a timer in nanoseconds.
+         *
+         * @return the sum
+         */
+        public long getSum() {
+            requireType(Type.HISTOGRAM, Type.TIMER);
+            return values[1];
+        }
+
+        /**
+         * Returns the maximum of a histogram or timer, the latter in nanoseconds.
+         *
+         * @return the maximum
+         */
+        public double getMax() {
+            requireType(Type.HISTOGRAM, Type.TIMER);
+            return Double.longBitsToDouble(values[2]);
+        }
+
+        /**
+         * Returns the upper bounds of the histogram-buckets of a histogram or timer in ascending order, the latter in
+         * nanoseconds.
+         *
+         * @return the upper bounds
+         */
+        public double[] getBucketBounds() {
+            requireType(Type.HISTOGRAM, Type.TIMER);
+            double[] bounds = new double[(values.length - 3) / 2];
+            for (int i = 0; i < bounds.length; i++) {
+                bounds[i] = Double.longBitsToDouble(values[3 + 2 * i]);
+            }
+            return bounds;
+        }
+
+        /**
+         * Returns the cumulative counts of the histogram-buckets of a histogram or timer, in the order of
+         * {@link #getBucketBounds()}.
+         *
+         * @return the cumulative counts
+         */
+        public long[] getBucketCounts() {
+            requireType(Type.HISTOGRAM, Type.TIMER);
+            long[] counts = new long[(values.length - 3) / 2];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = values[4 + 2 * i];
+            }
+            return counts;
+        }
+
+        private void requireType(Type... types) {
+            for (Type t : types) {
+                if (t == type) {
+                    return;
+                }
+            }
+            throw new IllegalStateException(name + " is a " + type);
+        }
+
+        @Override
+        public String toString() {
+            return scope + ":" + name + tags + " " + type;
+        }
+    }
+}
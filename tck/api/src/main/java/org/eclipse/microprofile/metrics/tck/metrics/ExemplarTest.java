@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.metrics;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Exemplar;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot.HistogramBucket;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+/**
+ * Exemplars are optional, the tests are skipped if the implementation does not record them.
+ */
+@RunWith(Arquillian.class)
+public class ExemplarTest {
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClass(ThreadLocalExemplarContextSupplier.class)
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml")
+                .addAsManifestResource("META-INF/microprofile-config-exemplarTest.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Test
+    public void counterExemplar() {
+        Counter counter = registry.counter("exemplar.counter");
+
+        counter.inc();
+        assertThat("Increments without trace context must not record exemplars", counter.getExemplar(),
+                nullValue());
+
+        long before = System.currentTimeMillis();
+        ThreadLocalExemplarContextSupplier.run("trace-1", "span-1", () -> counter.inc(5));
+        long after = System.currentTimeMillis();
+
+        Exemplar exemplar = counter.getExemplar();
+        Assume.assumeThat("Exemplars are not supported", exemplar, notNullValue());
+        assertThat(exemplar.getValue(), equalTo(5.0));
+        assertThat(exemplar.getTraceId(), equalTo("trace-1"));
+        assertThat(exemplar.getSpanId(), equalTo("span-1"));
+        assertThat(exemplar.getTimestamp(), allOf(greaterThanOrEqualTo(before), lessThanOrEqualTo(after)));
+
+        counter.inc();
+        assertThat("Increments without trace context must not replace the exemplar",
+                counter.getExemplar().getTraceId(), equalTo("trace-1"));
+
+        ThreadLocalExemplarContextSupplier.run("trace-2", null, () -> counter.inc());
+        assertThat("The latest exemplar must be retained", counter.getExemplar().getTraceId(),
+                equalTo("trace-2"));
+        assertThat(counter.getExemplar().getSpanId(), nullValue());
+    }
+
+    @Test
+    public void histogramBucketExemplars() {
+        Histogram histogram = registry.histogram("exemplar.histogram");
+
+        ThreadLocalExemplarContextSupplier.run("trace-a", "span-a", () -> histogram.update(5));
+        ThreadLocalExemplarContextSupplier.run("trace-b", "span-b", () -> histogram.update(50));
+        ThreadLocalExemplarContextSupplier.run("trace-c", "span-c", () -> histogram.update(7));
+        histogram.update(8);
+
+        HistogramBucket low = bucket(histogram, 10.0);
+        HistogramBucket high = bucket(histogram, 100.0);
+        Assume.assumeThat("Exemplars are not supported", low.getExemplar(), notNullValue());
+
+        assertThat("The latest exemplar with a trace context must be retained", low.getExemplar().getTraceId(),
+                equalTo("trace-c"));
+        assertThat(low.getExemplar().getValue(), equalTo(7.0));
+        assertThat("Exemplars must be retained by the bucket of their value", high.getExemplar().getTraceId(),
+                equalTo("trace-b"));
+        assertThat(high.getExemplar().getValue(), equalTo(50.0));
+    }
+
+    private static HistogramBucket bucket(Histogram histogram, double upperBound) {
+        for (HistogramBucket bucket : histogram.getSnapshot().bucketValues()) {
+            if (bucket.getBucket() == upperBound) {
+                return bucket;
+            }
+        }
+        throw new AssertionError("Configured bucket " + upperBound + " is missing");
+    }
+}
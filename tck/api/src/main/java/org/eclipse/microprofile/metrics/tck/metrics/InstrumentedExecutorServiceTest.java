@@ -0,0 +1,541 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.metrics;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class InstrumentedExecutorServiceTest {
+
+    private static final String[] POOL_METRICS = {"threadpool.queue.size", "threadpool.activeThreads",
+            "threadpool.size", "threadpool.rejected.total", "threadpool.task.wait", "threadpool.task.run",
+            "threadpool.completed.total"};
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(WebArchive.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml");
+    }
+
+    @Test
+    public void testTasksAreQueuedTimedAndCompleted() throws Exception {
+        Tag pool = new Tag("pool", "queued");
+        ExecutorService executor = registry.instrument(
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()), "queued");
+        // the metrics are removed once the executor has terminated
+        Counter completed = counter("threadpool.completed.total", pool);
+        Counter rejected = counter("threadpool.rejected.total", pool);
+        Timer wait = registry.getTimer(new MetricID("threadpool.task.wait", pool));
+        assertThat("Task wait timer is not registered", wait, notNullValue());
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            }));
+            started.await(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> {
+                }));
+            }
+
+            assertThat("Queue size is incorrect", queueSize(pool), is(equalTo(3L)));
+
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat("Queue size is incorrect", queueSize(pool), is(equalTo(0L)));
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertThat("Completed count is incorrect", completed.getCount(), is(equalTo(4L)));
+        assertThat("Task wait count is incorrect", wait.getCount(), is(equalTo(4L)));
+        assertThat("Rejected count is incorrect", rejected.getCount(), is(equalTo(0L)));
+    }
+
+    @Test
+    public void testRejectionsAreCountedForEveryPolicy() throws Exception {
+        Tag pool = new Tag("pool", "rejecting");
+        ThreadPoolExecutor delegate = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        ExecutorService executor = registry.instrument(delegate, "rejecting");
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+            });
+
+            try {
+                executor.execute(() -> {
+                });
+                fail("The task should have been rejected");
+            } catch (RejectedExecutionException expected) {
+                // the queue is full
+            }
+            assertThat("Rejected count is incorrect", counter("threadpool.rejected.total", pool).getCount(),
+                    is(equalTo(1L)));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        // rejections that are not signalled with an exception are counted as well
+        Tag discarding = new Tag("pool", "discarding");
+        executor = registry.instrument(new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.DiscardPolicy()), "discarding");
+        CountDownLatch discardRelease = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    discardRelease.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+            });
+            executor.execute(() -> {
+            });
+            assertThat("Rejected count is incorrect", counter("threadpool.rejected.total", discarding).getCount(),
+                    is(equalTo(1L)));
+        } finally {
+            discardRelease.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testExecutorCanOnlyBeInstrumentedOnce() throws Exception {
+        ThreadPoolExecutor delegate = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        ExecutorService executor = registry.instrument(delegate, "once");
+        try {
+            try {
+                registry.instrument(delegate, "twice");
+                fail("An executor that is already instrumented should not be instrumented again");
+            } catch (IllegalArgumentException expected) {
+                // the rejections would be counted twice
+            }
+            try {
+                registry.instrument(executor, "wrapped");
+                fail("An executor returned by instrument should not be instrumented");
+            } catch (IllegalArgumentException expected) {
+                // the tasks would be counted twice
+            }
+            ExecutorService other = Executors.newSingleThreadExecutor();
+            try {
+                registry.instrument(other, "once");
+                fail("A pool name that is already used should not be used again");
+            } catch (IllegalArgumentException expected) {
+                // the gauges would read the first executor
+            } finally {
+                other.shutdown();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        // executors that are neither a ThreadPoolExecutor nor a ForkJoinPool can only be instrumented once as well
+        ForkJoinPool forkJoinPool = new ForkJoinPool(1);
+        ExecutorService forkJoin = registry.instrument(forkJoinPool, "onceForkJoin");
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        ExecutorService instrumented = registry.instrument(single, "onceSingle");
+        try {
+            try {
+                registry.instrument(forkJoinPool, "twiceForkJoin");
+                fail("A ForkJoinPool that is already instrumented should not be instrumented again");
+            } catch (IllegalArgumentException expected) {
+                // the tasks would be counted twice
+            }
+            try {
+                registry.instrument(single, "twiceSingle");
+                fail("An executor that is already instrumented should not be instrumented again");
+            } catch (IllegalArgumentException expected) {
+                // the tasks would be counted twice
+            }
+            assertThat("The metrics of a rejected pool name should not be registered",
+                    registry.getGauge(new MetricID("threadpool.queue.size", new Tag("pool", "twiceSingle"))),
+                    nullValue());
+        } finally {
+            forkJoin.shutdown();
+            forkJoin.awaitTermination(10, TimeUnit.SECONDS);
+            instrumented.shutdown();
+            instrumented.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPoolNameIsClaimedByOneExecutor() throws Exception {
+        int executors = 4;
+        CountDownLatch ready = new CountDownLatch(executors);
+        ExecutorService instrumenting = Executors.newFixedThreadPool(executors);
+        List<Future<ExecutorService>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < executors; i++) {
+                futures.add(instrumenting.submit(() -> {
+                    ExecutorService delegate = Executors.newSingleThreadExecutor();
+                    ready.countDown();
+                    ready.await();
+                    try {
+                        return registry.instrument(delegate, "claimed");
+                    } catch (IllegalArgumentException e) {
+                        delegate.shutdown();
+                        return null;
+                    }
+                }));
+            }
+            List<ExecutorService> instrumented = new ArrayList<>();
+            for (Future<ExecutorService> future : futures) {
+                ExecutorService executor = future.get(10, TimeUnit.SECONDS);
+                if (executor != null) {
+                    instrumented.add(executor);
+                }
+            }
+            assertThat("Exactly one executor should claim the pool name", instrumented.size(), is(equalTo(1)));
+            instrumented.get(0).shutdown();
+            instrumented.get(0).awaitTermination(10, TimeUnit.SECONDS);
+        } finally {
+            instrumenting.shutdown();
+            instrumenting.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testMetricsAreRemovedOnTermination() throws Exception {
+        Tag pool = new Tag("pool", "terminated");
+        ExecutorService executor = registry.instrument(
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()), "terminated");
+        executor.submit(() -> {
+        }).get(10, TimeUnit.SECONDS);
+        for (String name : POOL_METRICS) {
+            assertThat(name + " is not registered", registry.getMetric(new MetricID(name, pool)), notNullValue());
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+        for (String name : POOL_METRICS) {
+            assertThat(name + " should be removed once the executor has terminated",
+                    registry.getMetric(new MetricID(name, pool)), nullValue());
+        }
+
+        // the pool name can be used again
+        executor = registry.instrument(Executors.newSingleThreadExecutor(), "terminated");
+        try {
+            assertThat("Queue size is incorrect", queueSize(pool), is(equalTo(0L)));
+        } finally {
+            executor.shutdownNow();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+        }
+        assertThat("The metrics should be removed after shutdownNow",
+                registry.getGauge(new MetricID("threadpool.queue.size", pool)), nullValue());
+    }
+
+    @Test
+    public void testAnyExecutorServiceCanBeInstrumented() throws Exception {
+        Tag pool = new Tag("pool", "single");
+        // not a ThreadPoolExecutor, so the wrapper tracks the queue and the rejections itself
+        ExecutorService executor = registry.instrument(Executors.newSingleThreadExecutor(), "single");
+        Counter completed = counter("threadpool.completed.total", pool);
+        Counter rejected = counter("threadpool.rejected.total", pool);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await(10, TimeUnit.SECONDS);
+        Future<?> queued = executor.submit(() -> {
+        });
+        assertThat("Queue size is incorrect", queueSize(pool), is(equalTo(1L)));
+
+        release.countDown();
+        queued.get(10, TimeUnit.SECONDS);
+        assertThat("Queue size is incorrect", queueSize(pool), is(equalTo(0L)));
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        try {
+            executor.execute(() -> {
+            });
+            fail("The task should have been rejected after the shutdown");
+        } catch (RejectedExecutionException expected) {
+            // the executor is shut down
+        }
+        assertThat("Rejected count is incorrect", rejected.getCount(), is(equalTo(1L)));
+        assertThat("Completed count is incorrect", completed.getCount(), is(equalTo(2L)));
+    }
+
+    @Test
+    public void testCancelledTasksAreNotQueued() throws Exception {
+        Tag pool = new Tag("pool", "cancelling");
+        // not a ThreadPoolExecutor, so the wrapper tracks the queue itself
+        ExecutorService executor = registry.instrument(Executors.newSingleThreadExecutor(), "cancelling");
+        Gauge<?> queueSize = registry.getGauge(new MetricID("threadpool.queue.size", pool));
+        Counter rejected = counter("threadpool.rejected.total", pool);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            started.await(10, TimeUnit.SECONDS);
+            Future<?> cancelled = executor.submit(() -> {
+            });
+            assertThat("Queue size is incorrect", queueSize(pool), is(equalTo(1L)));
+            cancelled.cancel(false);
+            assertThat("A cancelled task should not be queued", queueSize(pool), is(equalTo(0L)));
+            release.countDown();
+
+            // invokeAny cancels the tasks that did not complete first
+            List<Callable<String>> tasks = new ArrayList<>();
+            tasks.add(() -> "first");
+            for (int i = 0; i < 3; i++) {
+                tasks.add(() -> {
+                    Thread.sleep(10_000);
+                    return "late";
+                });
+            }
+            assertThat(executor.invokeAny(tasks), is(equalTo("first")));
+            assertThat("Tasks cancelled by invokeAny should not be queued", queueSize(pool), is(equalTo(0L)));
+
+            // invokeAll cancels the tasks that did not complete in time
+            CountDownLatch blocked = new CountDownLatch(1);
+            tasks.clear();
+            tasks.add(() -> {
+                blocked.await();
+                return "blocked";
+            });
+            tasks.add(() -> "queued");
+            for (Future<String> future : executor.invokeAll(tasks, 100, TimeUnit.MILLISECONDS)) {
+                assertThat("Tasks that did not complete in time should be cancelled", future.isCancelled(),
+                        is(true));
+            }
+            assertThat("Tasks cancelled by invokeAll should not be queued", queueSize(pool), is(equalTo(0L)));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        try {
+            executor.invokeAll(Collections.singletonList(() -> "rejected"));
+            fail("The task should have been rejected after the shutdown");
+        } catch (RejectedExecutionException expected) {
+            // the executor is shut down
+        }
+        assertThat("Queue size is incorrect", queueSize.getValue().longValue(), is(equalTo(0L)));
+        assertThat("Rejected count is incorrect", rejected.getCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testRunTimeAndActiveThreads() throws Exception {
+        Tag pool = new Tag("pool", "running");
+        ExecutorService executor = registry.instrument(
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()), "running");
+        Timer run = registry.getTimer(new MetricID("threadpool.task.run", pool));
+        assertThat("Task run timer is not registered", run, notNullValue());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Future<?> future = executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            });
+            started.await(10, TimeUnit.SECONDS);
+            assertThat("Active threads are incorrect", gauge("threadpool.activeThreads", pool), is(equalTo(1L)));
+            assertThat("Pool size is incorrect", gauge("threadpool.size", pool), is(equalTo(1L)));
+
+            Thread.sleep(50);
+            release.countDown();
+            future.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertThat("Task run count is incorrect", run.getCount(), is(equalTo(1L)));
+        assertThat("Task run time is incorrect", run.getElapsedTime(),
+                greaterThanOrEqualTo(Duration.ofMillis(50)));
+    }
+
+    @Test
+    public void testScheduledTasksWaitFromTheirDueTime() throws Exception {
+        Tag pool = new Tag("pool", "scheduled");
+        ScheduledExecutorService executor = registry.instrument(new ScheduledThreadPoolExecutor(1), "scheduled");
+        Counter completed = counter("threadpool.completed.total", pool);
+        try {
+            executor.schedule(() -> {
+            }, 500, TimeUnit.MILLISECONDS).get(10, TimeUnit.SECONDS);
+
+            Timer wait = registry.getTimer(new MetricID("threadpool.task.wait", pool));
+            assertThat("Task wait count is incorrect", wait.getCount(), is(equalTo(1L)));
+            // the requested delay is not part of the wait time
+            assertThat("Task wait time should not include the delay", wait.getElapsedTime(),
+                    lessThan(Duration.ofMillis(500)));
+
+            CountDownLatch executions = new CountDownLatch(3);
+            ScheduledFuture<?> periodic = executor.scheduleAtFixedRate(executions::countDown, 0, 10,
+                    TimeUnit.MILLISECONDS);
+            executions.await(10, TimeUnit.SECONDS);
+            periodic.cancel(false);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertThat("Every execution of a periodic task should be counted",
+                completed.getCount(), greaterThanOrEqualTo(4L));
+    }
+
+    @Test
+    public void testShutdownNowOfScheduledTasks() throws Exception {
+        Tag pool = new Tag("pool", "scheduledShutdown");
+        // not a ScheduledThreadPoolExecutor, so the wrapper tracks the queue itself
+        ScheduledExecutorService executor = registry.instrument(Executors.newSingleThreadScheduledExecutor(),
+                "scheduledShutdown");
+        // periodic tasks are not counted as queued
+        executor.scheduleAtFixedRate(() -> {
+        }, 0, 10, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(() -> {
+        }, 1, 1, TimeUnit.HOURS);
+        ScheduledFuture<?> cancelled = executor.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+        executor.schedule(() -> "delayed", 1, TimeUnit.HOURS);
+        assertThat("Queue size is incorrect", queueSize(pool), is(equalTo(2L)));
+        Gauge<?> queueSize = registry.getGauge(new MetricID("threadpool.queue.size", pool));
+
+        cancelled.cancel(false);
+        assertThat("A cancelled task should not be queued", queueSize(pool), is(equalTo(1L)));
+
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        assertThat("Tasks that did not start should not be queued after shutdownNow",
+                queueSize.getValue().longValue(), is(equalTo(0L)));
+    }
+
+    @Test
+    public void testForkJoinPool() throws Exception {
+        Tag pool = new Tag("pool", "forkJoin");
+        ExecutorService executor = registry.instrument(new ForkJoinPool(2), "forkJoin");
+        Counter completed = counter("threadpool.completed.total", pool);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(() -> {
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat("Steal count should not be negative", gauge("threadpool.steal.count", pool),
+                    greaterThanOrEqualTo(0L));
+            assertThat("Pool size should not be negative", gauge("threadpool.size", pool),
+                    greaterThanOrEqualTo(0L));
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertThat("Completed count is incorrect", completed.getCount(), is(equalTo(10L)));
+    }
+
+    private long queueSize(Tag pool) {
+        return gauge("threadpool.queue.size", pool);
+    }
+
+    private long gauge(String name, Tag pool) {
+        Gauge<?> gauge = registry.getGauge(new MetricID(name, pool));
+        assertThat(name + " is not registered", gauge, notNullValue());
+        return gauge.getValue().longValue();
+    }
+
+    private Counter counter(String name, Tag pool) {
+        Counter counter = registry.getCounter(new MetricID(name, pool));
+        assertThat(name + " is not registered", counter, notNullValue());
+        return counter;
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.metrics;
+
+import org.eclipse.microprofile.metrics.ExemplarContextSupplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Supplies the trace context set by the test for the current thread.
+ */
+@ApplicationScoped
+public class ThreadLocalExemplarContextSupplier implements ExemplarContextSupplier {
+
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    public static void run(String traceId, String spanId, Runnable runnable) {
+        CONTEXT.set(new Context(traceId, spanId));
+        try {
+            runnable.run();
+        } finally {
+            CONTEXT.remove();
+        }
+    }
+
+    @Override
+    public Context getContext() {
+        return CONTEXT.get();
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.metrics;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.junit.InSequence;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class TimedMethodMeasureBeanTest {
+
+    private final static String TIMER_NAME = MetricRegistry.name(TimedMethodMeasureBean.class, "allocatingMethod");
+
+    private static MetricID timerMID;
+
+    private static MetricID cpuTimerMID;
+
+    private static MetricID allocationHistogramMID;
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(WebArchive.class)
+                // Test bean
+                .addClass(TimedMethodMeasureBean.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml");
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Inject
+    private TimedMethodMeasureBean bean;
+
+    @Before
+    public void instantiateTest() {
+        timerMID = new MetricID(TIMER_NAME);
+        cpuTimerMID = new MetricID(Timer.Measure.CPU.getMetricName(TIMER_NAME));
+        allocationHistogramMID = new MetricID(Timer.Measure.ALLOCATION.getMetricName(TIMER_NAME));
+    }
+
+    @Test
+    @InSequence(1)
+    public void siblingMetricsRegistered() {
+        assertThat("Timer is not registered correctly", registry.getTimer(timerMID), notNullValue());
+        assertThat("CPU timer is not registered correctly", registry.getTimer(cpuTimerMID), notNullValue());
+        assertThat("Allocation histogram is not registered correctly",
+                registry.getHistogram(allocationHistogramMID), notNullValue());
+        assertThat("Allocation histogram unit is incorrect",
+                registry.getMetadata(allocationHistogramMID.getName()).getUnit(), is(equalTo(MetricUnits.BYTES)));
+    }
+
+    @Test
+    @InSequence(2)
+    public void callAllocatingMethod() {
+        Timer timer = registry.getTimer(timerMID);
+
+        bean.allocatingMethod();
+
+        assertThat("Timer count is incorrect", timer.getCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    @InSequence(3)
+    public void callAllocatingMethodRecordsCpuTime() {
+        // CPU time is only recorded when it can be measured for the invoking thread
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("The JVM cannot measure the CPU time of the current thread",
+                threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled());
+        Timer cpuTimer = registry.getTimer(cpuTimerMID);
+        long count = cpuTimer.getCount();
+
+        bean.allocatingMethod();
+
+        assertThat("CPU timer count is incorrect", cpuTimer.getCount(), is(equalTo(count + 1)));
+    }
+
+    @Test
+    @InSequence(4)
+    public void callAllocatingMethodRecordsAllocatedBytes() {
+        // allocated bytes are only recorded when they can be measured for the invoking thread
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("The JVM cannot measure the bytes allocated by the current thread",
+                threads instanceof com.sun.management.ThreadMXBean
+                        && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()
+                        && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled());
+        Histogram allocation = registry.getHistogram(allocationHistogramMID);
+        long count = allocation.getCount();
+        long sum = allocation.getSum();
+
+        bean.allocatingMethod();
+
+        assertThat("Allocation histogram count is incorrect", allocation.getCount(), is(equalTo(count + 1)));
+        assertThat("Allocated bytes must include the allocated array", allocation.getSum() - sum,
+                greaterThanOrEqualTo((long) TimedMethodMeasureBean.ALLOCATION_SIZE));
+    }
+}
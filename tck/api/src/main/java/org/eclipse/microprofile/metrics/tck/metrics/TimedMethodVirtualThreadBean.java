@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.metrics;
+
+import org.eclipse.microprofile.metrics.Timer;
+import org.eclipse.microprofile.metrics.annotation.Timed;
+
+import jakarta.enterprise.context.Dependent;
+
+@Dependent
+public class TimedMethodVirtualThreadBean {
+
+    @Timed(name = "parkingMethod")
+    public void parkingMethod() throws InterruptedException {
+        Thread.sleep(200);
+    }
+
+    @Timed(name = "measuredMethod", measure = {Timer.Measure.WALL, Timer.Measure.CPU})
+    public void measuredMethod() throws InterruptedException {
+        Thread.sleep(200);
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.metrics;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Timer;
+import org.eclipse.microprofile.metrics.tck.util.TestUtils;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.junit.InSequence;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class TimedMethodVirtualThreadBeanTest {
+
+    private final static String PARKING_TIMER_NAME = MetricRegistry.name(TimedMethodVirtualThreadBean.class,
+            "parkingMethod");
+
+    private final static String MEASURED_TIMER_NAME = MetricRegistry.name(TimedMethodVirtualThreadBean.class,
+            "measuredMethod");
+
+    private final static int INVOCATIONS = 50;
+
+    private static MetricID parkingMID;
+
+    private static MetricID measuredMID;
+
+    private static MetricID measuredCpuMID;
+
+    @Deployment
+    static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(WebArchive.class)
+                // Test bean
+                .addClass(TimedMethodVirtualThreadBean.class)
+                .addClass(TestUtils.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml");
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Inject
+    private TimedMethodVirtualThreadBean bean;
+
+    @Before
+    public void instantiateTest() {
+        parkingMID = new MetricID(PARKING_TIMER_NAME);
+        measuredMID = new MetricID(MEASURED_TIMER_NAME);
+        measuredCpuMID = new MetricID(MEASURED_TIMER_NAME + ".cpu");
+    }
+
+    @Test
+    @InSequence(1)
+    public void timersRegistered() {
+        assertThat("Timer is not registered correctly", registry.getTimer(parkingMID), notNullValue());
+        assertThat("Timer is not registered correctly", registry.getTimer(measuredMID), notNullValue());
+        assertThat("CPU timer is not registered correctly", registry.getTimer(measuredCpuMID), notNullValue());
+        assertThat("CPU timer must only be registered when measured",
+                registry.getTimer(new MetricID(PARKING_TIMER_NAME + ".cpu")), nullValue());
+    }
+
+    @Test
+    @InSequence(2)
+    public void callMeasuredMethodOnPlatformThread() throws InterruptedException {
+        Timer timer = registry.getTimer(measuredMID);
+        Timer cpuTimer = registry.getTimer(measuredCpuMID);
+
+        bean.measuredMethod();
+
+        assertThat("Timer count is incorrect", timer.getCount(), is(equalTo(1L)));
+        TestUtils.assertEqualsWithTolerance(TimeUnit.MILLISECONDS.toNanos(200), timer.getElapsedTime().toNanos());
+
+        // CPU time is only recorded when it can be measured for the invoking thread
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("The JVM cannot measure the CPU time of the current thread",
+                threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled());
+        assertThat("CPU timer count is incorrect", cpuTimer.getCount(), is(equalTo(1L)));
+        // the method sleeps, so it consumes only a fraction of its duration on the CPU
+        assertThat("CPU time must not include the time the thread was sleeping",
+                cpuTimer.getElapsedTime().toNanos(), lessThan(timer.getElapsedTime().toNanos() / 2));
+    }
+
+    @Test
+    @InSequence(3)
+    public void callParkingMethodOnVirtualThreads() throws Exception {
+        Timer timer = registry.getTimer(parkingMID);
+        long count = timer.getCount();
+
+        invokeOnVirtualThreads(() -> {
+            bean.parkingMethod();
+            return null;
+        });
+
+        // the count must be exact, and every duration must include the time the virtual thread was parked
+        assertThat("Timer count is incorrect", timer.getCount(), is(equalTo(count + INVOCATIONS)));
+        assertThat("Timer elapsed time must include the time the virtual threads were parked",
+                timer.getElapsedTime().toNanos(),
+                greaterThanOrEqualTo(INVOCATIONS * TimeUnit.MILLISECONDS.toNanos(200)));
+        assertThat(timer.getSnapshot().getMax(),
+                greaterThanOrEqualTo((double) TimeUnit.MILLISECONDS.toNanos(200)));
+    }
+
+    @Test
+    @InSequence(4)
+    public void callMeasuredMethodOnVirtualThreads() throws Exception {
+        Timer timer = registry.getTimer(measuredMID);
+        Timer cpuTimer = registry.getTimer(measuredCpuMID);
+        long count = timer.getCount();
+        long cpuCount = cpuTimer.getCount();
+
+        invokeOnVirtualThreads(() -> {
+            bean.measuredMethod();
+            return null;
+        });
+
+        assertThat("Timer count is incorrect", timer.getCount(), is(equalTo(count + INVOCATIONS)));
+        // CPU time measurement of virtual threads is optional
+        assertThat("CPU timer count is incorrect", cpuTimer.getCount(),
+                lessThanOrEqualTo(cpuCount + INVOCATIONS));
+    }
+
+    private static void invokeOnVirtualThreads(Callable<Void> task) throws Exception {
+        ExecutorService executor;
+        try {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            Assume.assumeNoException("Virtual threads are not supported by this JVM", e);
+            return;
+        }
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < INVOCATIONS; i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Void> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and appends the records of the log of persisted totals defined in the "Persisting metrics across restarts"
+ * section of the specification.
+ */
+public final class MetricsLog {
+
+    public static final String FILE_NAME = "metrics.log";
+
+    public static final int MAGIC = 0x4D504D50;
+
+    public static final int VERSION = 1;
+
+    public static final byte REMOVED = 0;
+
+    public static final byte COUNTER = 1;
+
+    public static final byte HISTOGRAM = 3;
+
+    public static final byte TIMER = 4;
+
+    private static final int HEADER_SIZE = 8;
+
+    private MetricsLog() {
+    }
+
+    /**
+     * Reads the last record of each metric that has not been removed. Records after a partially written or corrupted
+     * record are ignored.
+     *
+     * @param directory
+     *            the directory of the log
+     * @return the last record of each metric, in the order of their first record, or an empty map if the directory
+     *         contains no log
+     * @throws IOException
+     *             if the log cannot be read or does not start with the header of a supported version
+     */
+    public static Map<String, Entry> read(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return Collections.emptyMap();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException(file + " is not a log of persisted metrics");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version + " of " + file);
+        }
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        while (buffer.remaining() >= 8) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+            payload.limit(length);
+            buffer.position(buffer.position() + length);
+            if (checksum != checksum(payload.duplicate())) {
+                break;
+            }
+            Entry entry = Entry.decode(payload);
+            if (entry.getType() == REMOVED) {
+                entries.remove(entry.key());
+            } else {
+                entries.put(entry.key(), entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Finds the last record of a metric that has not been removed.
+     *
+     * @param directory
+     *            the directory of the log
+     * @param scope
+     *            the scope of the metric
+     * @param name
+     *            the name of the metric
+     * @param tags
+     *            the tags of the metric
+     * @return the last record of the metric or {@code null} if the log contains no record of the metric or the metric
+     *         has been removed
+     * @throws IOException
+     *             if the log cannot be read
+     */
+    public static Entry find(Path directory, String scope, String name, Map<String, String> tags)
+            throws IOException {
+        return read(directory).get(key(scope, name, tags));
+    }
+
+    /**
+     * Appends records to the log, which is created if the directory contains no log.
+     *
+     * @param directory
+     *            the directory of the log
+     * @param entries
+     *            the records to append
+     * @throws IOException
+     *             if the log cannot be written
+     */
+    public static void append(Path directory, Entry... entries) throws IOException {
+        Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(directory.resolve(FILE_NAME), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                write(channel, header);
+            }
+            for (Entry entry : entries) {
+                ByteBuffer payload = entry.encode();
+                ByteBuffer header = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(payload.remaining()).putInt(checksum(payload.duplicate())).flip();
+                write(channel, header);
+                write(channel, payload);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static String key(String scope, String name, Map<String, String> tags) {
+        return scope + ":" + name + new TreeMap<>(tags);
+    }
+
+    /**
+     * A record of the log.
+     */
+    public static final class Entry {
+
+        private final byte type;
+        private final String scope;
+        private final String name;
+        private final Map<String, String> tags;
+        private final long count;
+        private final long sum;
+        private final double[] bucketBounds;
+        private final long[] bucketCounts;
+
+        private Entry(byte type, String scope, String name, Map<String, String> tags, long count, long sum,
+                double[] bucketBounds, long[] bucketCounts) {
+            this.type = type;
+            this.scope = scope;
+            this.name = name;
+            this.tags = Collections.unmodifiableMap(new TreeMap<>(tags));
+            this.count = count;
+            this.sum = sum;
+            this.bucketBounds = bucketBounds;
+            this.bucketCounts = bucketCounts;
+        }
+
+        public static Entry counter(String scope, String name, Map<String, String> tags, long count) {
+            return new Entry(COUNTER, scope, name, tags, count, 0, new double[0], new long[0]);
+        }
+
+        public static Entry histogram(String scope, String name, Map<String, String> tags, long count, long sum,
+                double[] bucketBounds, long[] bucketCounts) {
+            return new Entry(HISTOGRAM, scope, name, tags, count, sum, bucketBounds.clone(), bucketCounts.clone());
+        }
+
+        public static Entry timer(String scope, String name, Map<String, String> tags, long count, long sumNanos,
+                double[] bucketBounds, long[] bucketCounts) {
+            return new Entry(TIMER, scope, name, tags, count, sumNanos, bucketBounds.clone(), bucketCounts.clone());
+        }
+
+        public static Entry removed(String scope, String name, Map<String, String> tags) {
+            return new Entry(REMOVED, scope, name, tags, 0, 0, new double[0], new long[0]);
+        }
+
+        public byte getType() {
+            return type;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of a histogram or the elapsed time of a timer in nanoseconds.
+         *
+         * @return the sum
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        public double[] getBucketBounds() {
+            return bucketBounds.clone();
+        }
+
+        public long[] getBucketCounts() {
+            return bucketCounts.clone();
+        }
+
+        String key() {
+            return MetricsLog.key(scope, name, tags);
+        }
+
+        ByteBuffer encode() {
+            byte[][] strings = new byte[2 + 2 * tags.size()][];
+            int i = 0;
+            strings[i++] = scope.getBytes(StandardCharsets.UTF_8);
+            strings[i++] = name.getBytes(StandardCharsets.UTF_8);
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                strings[i++] = tag.getKey().getBytes(StandardCharsets.UTF_8);
+                strings[i++] = tag.getValue().getBytes(StandardCharsets.UTF_8);
+            }
+            int size = 1 + 2 + 8 + 8 + 2 + 16 * bucketBounds.length;
+            for (byte[] string : strings) {
+                size += 2 + string.length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(type);
+            putString(buffer, strings[0]);
+            putString(buffer, strings[1]);
+            buffer.putShort((short) tags.size());
+            for (i = 2; i < strings.length; i++) {
+                putString(buffer, strings[i]);
+            }
+            if (type == COUNTER) {
+                buffer.putLong(count);
+            } else if (type == HISTOGRAM || type == TIMER) {
+                buffer.putLong(count).putLong(sum).putShort((short) bucketBounds.length);
+                for (int b = 0; b < bucketBounds.length; b++) {
+                    buffer.putDouble(bucketBounds[b]).putLong(bucketCounts[b]);
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+
+        static Entry decode(ByteBuffer buffer) throws IOException {
+            byte type = buffer.get();
+            String scope = getString(buffer);
+            String name = getString(buffer);
+            int tagCount = Short.toUnsignedInt(buffer.getShort());
+            Map<String, String> tags = new TreeMap<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.put(getString(buffer), getString(buffer));
+            }
+            switch (type) {
+                case REMOVED :
+                    return removed(scope, name, tags);
+                case COUNTER :
+                    return counter(scope, name, tags, buffer.getLong());
+                case HISTOGRAM :
+                case TIMER :
+                    long count = buffer.getLong();
+                    long sum = buffer.getLong();
+                    int buckets = Short.toUnsignedInt(buffer.getShort());
+                    double[] bounds = new double[buckets];
+                    long[] counts = new long[buckets];
+                    for (int b = 0; b < buckets; b++) {
+                        bounds[b] = buffer.getDouble();
+                        counts[b] = buffer.getLong();
+                    }
+                    return new Entry(type, scope, name, tags, count, sum, bounds, counts);
+                default :
+                    throw new IOException("Unknown metric type " + type + " of " + name);
+            }
+        }
+
+        private static void putString(ByteBuffer buffer, byte[] string) {
+            buffer.putShort((short) string.length).put(string);
+        }
+
+        private static String getString(ByteBuffer buffer) {
+            byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return key() + " type=" + type + " count=" + count + " sum=" + sum;
+        }
+    }
+}
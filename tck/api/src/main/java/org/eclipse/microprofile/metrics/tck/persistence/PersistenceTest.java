@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.metrics.tck.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.eclipse.microprofile.metrics.Snapshot.HistogramBucket;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.eclipse.microprofile.metrics.tck.persistence.MetricsLog.Entry;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.junit.InSequence;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+/*
+ * See /microprofile-metrics-api-tck/src/main/resources/META-INF/microprofile-config-persistenceTest.properties for the
+ * MP Config property configuration. The log of persisted totals is written to a temporary directory when the deployment
+ * is created, before the application is started, so the application must be deployed to a container that shares the
+ * temporary directory of the test client.
+ */
+public class PersistenceTest {
+
+    private static final Path DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"),
+            "microprofile-metrics-tck-persistence");
+
+    private static final String SCOPE = MetricRegistry.APPLICATION_SCOPE;
+
+    private static final Map<String, String> NO_TAGS = Collections.emptyMap();
+
+    private static final Tag TENANT = new Tag("tenant", "a");
+
+    private static final double[] HISTOGRAM_BOUNDS = {10, 100};
+
+    private static final double[] TIMER_BOUNDS = {TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(10)};
+
+    // the configured interval is 100ms, the rest allows for a slow test environment
+    private static final long MAX_WAIT_MILLIS = 10_000;
+
+    // whether the implementation writes the log, looked up once for all tests
+    private static Boolean supported;
+
+    @Deployment
+    static Archive<?> createTestArchive() throws IOException {
+        writeLog();
+
+        WebArchive jar = ShrinkWrap.create(WebArchive.class)
+                // Reader of the log
+                .addClass(MetricsLog.class)
+                // Bean archive deployment descriptor
+                .addAsWebInfResource("META-INF/beans.xml", "beans.xml")
+                .addAsManifestResource("META-INF/microprofile-config-persistenceTest.properties",
+                        "microprofile-config.properties");
+
+        System.out.println(jar.toString(true));
+        return jar;
+    }
+
+    // the totals persisted by a previous run of the application
+    private static void writeLog() throws IOException {
+        if (Files.exists(DIRECTORY)) {
+            try (Stream<Path> files = Files.walk(DIRECTORY)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+        Map<String, String> tenant = Collections.singletonMap(TENANT.getTagName(), TENANT.getTagValue());
+        MetricsLog.append(DIRECTORY,
+                Entry.counter(SCOPE, "persisted.restored.counter", NO_TAGS, 40),
+                // the last record of a metric replaces the previous records
+                Entry.counter(SCOPE, "persisted.restored.counter", NO_TAGS, 42),
+                Entry.counter(MetricRegistry.VENDOR_SCOPE, "persisted.restored.counter", NO_TAGS, 7),
+                Entry.histogram(SCOPE, "persisted.restored.histogram", tenant, 10, 100, HISTOGRAM_BOUNDS,
+                        new long[]{4, 10}),
+                Entry.histogram(SCOPE, "persisted.rebucketed.histogram", NO_TAGS, 5, 50, new double[]{20, 200},
+                        new long[]{2, 5}),
+                Entry.timer(SCOPE, "persisted.restored.timer", NO_TAGS, 3, TimeUnit.SECONDS.toNanos(3), TIMER_BOUNDS,
+                        new long[]{1, 3}),
+                Entry.counter(SCOPE, "persisted.removed.counter", NO_TAGS, 9),
+                Entry.removed(SCOPE, "persisted.removed.counter", NO_TAGS),
+                Entry.counter(SCOPE, "persisted.skipped", NO_TAGS, 5));
+
+        // a record that was only partially written before a crash, with a checksum that does not match
+        ByteBuffer torn = Entry.counter(SCOPE, "persisted.torn.counter", NO_TAGS, 13).encode();
+        ByteBuffer record = ByteBuffer.allocate(8 + torn.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+        record.putInt(torn.remaining()).putInt(0).put(torn);
+        Files.write(DIRECTORY.resolve(MetricsLog.FILE_NAME), record.array(), StandardOpenOption.APPEND);
+    }
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Test
+    @InSequence(1)
+    public void checkTotalsAreRestored() throws Exception {
+        assumePersistenceSupported();
+
+        Counter counter = registry.counter("persisted.restored.counter");
+        assertThat("The count of a counter must be restored", counter.getCount(), equalTo(42L));
+        counter.inc();
+        assertThat(counter.getCount(), equalTo(43L));
+
+        Histogram histogram = registry.histogram("persisted.restored.histogram", TENANT);
+        assertThat("The count of a histogram must be restored", histogram.getCount(), equalTo(10L));
+        assertThat("The sum of a histogram must be restored", histogram.getSum(), equalTo(100L));
+        assertThat("The buckets of a histogram must be restored", buckets(histogram.getSnapshot()), contains(4L, 10L));
+
+        Timer timer = registry.timer("persisted.restored.timer");
+        assertThat("The count of a timer must be restored", timer.getCount(), equalTo(3L));
+        assertThat("The elapsed time of a timer must be restored", timer.getElapsedTime(),
+                equalTo(Duration.ofSeconds(3)));
+        assertThat("The buckets of a timer must be restored", buckets(timer.getSnapshot()), contains(1L, 3L));
+
+        Histogram rebucketed = registry.histogram("persisted.rebucketed.histogram");
+        assertThat(rebucketed.getCount(), equalTo(5L));
+        assertThat(rebucketed.getSum(), equalTo(50L));
+        assertThat("Buckets with different upper bounds must not be restored", buckets(rebucketed.getSnapshot()),
+                contains(0L, 0L));
+
+        assertThat("A removed metric must not be restored", registry.counter("persisted.removed.counter").getCount(),
+                equalTo(0L));
+        assertThat("A metric that is not enabled must not be restored",
+                registry.counter("persisted.skipped").getCount(), equalTo(0L));
+        assertThat("A partially written record must be ignored",
+                registry.counter("persisted.torn.counter").getCount(), equalTo(0L));
+    }
+
+    @Test
+    @InSequence(2)
+    public void checkTotalsAreWritten() throws Exception {
+        assumePersistenceSupported();
+
+        registry.counter("persisted.written.counter", TENANT).inc(5);
+        Histogram histogram = registry.histogram("persisted.written.histogram");
+        histogram.update(5);
+        histogram.update(50);
+        registry.counter("persisted.skipped").inc();
+
+        Entry entry = await("persisted.written.counter", TENANT, e -> e.getCount() == 5);
+        assertThat(entry.getType(), equalTo(MetricsLog.COUNTER));
+
+        entry = await("persisted.written.histogram", null, e -> e.getCount() == 2);
+        assertThat(entry.getType(), equalTo(MetricsLog.HISTOGRAM));
+        assertThat(entry.getSum(), equalTo(55L));
+        assertThat(entry.getBucketBounds(), equalTo(HISTOGRAM_BOUNDS));
+        assertThat(entry.getBucketCounts(), equalTo(new long[]{1, 2}));
+
+        assertThat("The updated total of a restored metric must be written",
+                await("persisted.restored.counter", null, e -> e.getCount() == 43), notNullValue());
+        assertThat("A metric that is not enabled must not be written",
+                MetricsLog.find(DIRECTORY, SCOPE, "persisted.skipped", NO_TAGS), nullValue());
+    }
+
+    @Test
+    @InSequence(3)
+    public void checkRemovalIsWritten() throws Exception {
+        assumePersistenceSupported();
+
+        registry.counter("persisted.dropped.counter").inc(3);
+        await("persisted.dropped.counter", null, e -> e.getCount() == 3);
+
+        registry.remove(new MetricID("persisted.dropped.counter"));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+        while (MetricsLog.find(DIRECTORY, SCOPE, "persisted.dropped.counter", NO_TAGS) != null
+                && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat("The removal of a metric must be written",
+                MetricsLog.find(DIRECTORY, SCOPE, "persisted.dropped.counter", NO_TAGS), nullValue());
+    }
+
+    /*
+     * The totals of a metric are written within the interval if the implementation supports the persistence. Support is
+     * detected from changes of the raw file, so that an implementation that appends its records after the partially
+     * written record, where they cannot be read, fails rather than skips the tests.
+     */
+    private void assumePersistenceSupported() throws Exception {
+        if (supported == null) {
+            Path file = DIRECTORY.resolve(MetricsLog.FILE_NAME);
+            FileState before = FileState.of(file);
+            registry.counter("persisted.probe").inc();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+            while (before.equals(FileState.of(file)) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            supported = !before.equals(FileState.of(file));
+            if (supported) {
+                assertThat("The log was written, but the totals of persisted.probe cannot be read from it",
+                        await("persisted.probe", null, e -> e.getCount() == 1), notNullValue());
+            }
+        }
+        Assume.assumeTrue("Persisting metrics across restarts is not supported", supported);
+    }
+
+    private static Entry await(String name, Tag tag, Predicate<Entry> written) throws Exception {
+        Map<String, String> tags = tag == null
+                ? NO_TAGS
+                : Collections.singletonMap(tag.getTagName(), tag.getTagValue());
+        Predicate<Entry> found = e -> e != null && written.test(e);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+        Entry entry = MetricsLog.find(DIRECTORY, SCOPE, name, tags);
+        while (!found.test(entry) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            entry = MetricsLog.find(DIRECTORY, SCOPE, name, tags);
+        }
+        assertThat(name + " was not written to " + DIRECTORY, entry, notNullValue());
+        assertThat("The totals of " + name + " were not written: " + entry, found.test(entry), equalTo(true));
+        return entry;
+    }
+
+    // the counts of the histogram-buckets in ascending order of their upper bounds
+    private static List<Long> buckets(Snapshot snapshot) {
+        return Stream.of(snapshot.bucketValues()).sorted(Comparator.comparingDouble(HistogramBucket::getBucket))
+                .map(HistogramBucket::getCount).collect(Collectors.toList());
+    }
+
+    /*
+     * The size and the modification time of the log, which change when records are appended or the log is compacted
+     */
+    private static final class FileState {
+
+        private final long size;
+        private final FileTime lastModified;
+
+        private FileState(long size, FileTime lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static FileState of(Path file) throws IOException {
+            try {
+                return new FileState(Files.size(file), Files.getLastModifiedTime(file));
+            } catch (NoSuchFileException e) {
+                return new FileState(-1, null);
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileState)) {
+                return false;
+            }
+            FileState other = (FileState) obj;
+            return size == other.size && Objects.equals(lastModified, other.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -24,6 +24,9 @@ package org.eclipse.microprofile.metrics.test.optional;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -32,10 +35,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -334,6 +339,248 @@ public class MPMetricBaseMetricsTest {
         Assert.assertTrue("At least one metric named gc.time.seconds.total is expected", found);
     }
 
+    /**
+     * Base metrics may be kept up to date incrementally, e.g. from JFR events, rather than polled on each request. This
+     * checks that accumulated values do not decrease between two requests.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(8)
+    public void testBaseMetricsConsistency() {
+        Assume.assumeFalse(Boolean.getBoolean("skip.base.metric.tests"));
+        Header wantPromMetricsFormat = new Header("Accept", TEXT_PLAIN);
+
+        Map<String, Double> first = parseSamples(
+                given().header(wantPromMetricsFormat).get("/metrics?scope=base").asString());
+        Map<String, Double> second = parseSamples(
+                given().header(wantPromMetricsFormat).get("/metrics?scope=base").asString());
+
+        for (Map.Entry<String, Double> sample : first.entrySet()) {
+            String series = sample.getKey();
+            if (series.startsWith("gc_total{") || series.startsWith("gc_time_seconds{")
+                    || series.startsWith("classloader_loadedClasses_total{")
+                    || series.startsWith("classloader_unloadedClasses_total{")) {
+                assertThat("Series disappeared between requests: " + series, second.containsKey(series));
+                assertThat("Accumulated value decreased between requests: " + series, second.get(series),
+                        greaterThanOrEqualTo(sample.getValue()));
+            }
+        }
+    }
+
+    /**
+     * The optional gc.pause timer records the duration of each collection per collector. If it is present, check that
+     * every series carries the collector name and that no collector reports more pauses than collections.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(9)
+    public void testGcPauseMetrics() {
+        Assume.assumeFalse(Boolean.getBoolean("skip.base.metric.tests"));
+        Header wantPromMetricsFormat = new Header("Accept", TEXT_PLAIN);
+        String data = given().header(wantPromMetricsFormat).get("/metrics?scope=base").asString();
+        Assume.assumeTrue("gc.pause is not provided by this implementation",
+                data.contains("gc_pause_seconds_count{"));
+
+        assertThat("gc.pause should be exposed as a summary or histogram",
+                Pattern.compile("(?m)^# TYPE gc_pause_seconds (summary|histogram)$").matcher(data).find());
+
+        Map<String, Double> samples = parseSamples(data);
+        Pattern collectorName = Pattern.compile("[{,]name=\"([^\"]*)\"");
+        for (Map.Entry<String, Double> sample : samples.entrySet()) {
+            String series = sample.getKey();
+            if (!series.startsWith("gc_pause_seconds_count{")) {
+                continue;
+            }
+            Matcher matcher = collectorName.matcher(series);
+            assertTrue("gc.pause should be tagged with the collector name: " + series, matcher.find());
+            String name = matcher.group(1);
+
+            double pauses = sample.getValue();
+            assertThat("gc.pause count should not be negative", pauses, greaterThanOrEqualTo(0.0));
+            double collections = samples.entrySet().stream()
+                    .filter(s -> s.getKey().startsWith("gc_total{") && s.getKey().contains("name=\"" + name + "\""))
+                    .mapToDouble(Map.Entry::getValue)
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No gc.total for collector " + name));
+            assertThat("gc.pause count must not exceed gc.total for collector " + name, pauses,
+                    lessThanOrEqualTo(collections));
+
+            samples.entrySet().stream()
+                    .filter(s -> s.getKey().startsWith("gc_pause_seconds_bucket{")
+                            && s.getKey().contains("name=\"" + name + "\"") && s.getKey().contains("le=\"+Inf\""))
+                    .findFirst()
+                    .ifPresent(
+                            inf -> assertEquals("The +Inf bucket should equal the gc.pause count for collector " + name,
+                                    pauses, inf.getValue(), 0.0));
+        }
+    }
+
+    /**
+     * The optional memory pool metrics of a pool are served from a single snapshot per request, so the used size of a
+     * pool must never exceed its committed size, which in turn must not exceed its maximum size if one is defined.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(10)
+    public void testMemoryPoolMetrics() {
+        Assume.assumeFalse(Boolean.getBoolean("skip.base.metric.tests"));
+        Header wantPromMetricsFormat = new Header("Accept", TEXT_PLAIN);
+        Map<String, Double> samples = parseSamples(
+                given().header(wantPromMetricsFormat).get("/metrics?scope=base").asString());
+        Assume.assumeTrue("Memory pool metrics are not provided by this implementation",
+                samples.keySet().stream().anyMatch(series -> series.startsWith("memory_pool_used_bytes{")));
+
+        for (Map.Entry<String, Double> sample : samples.entrySet()) {
+            String series = sample.getKey();
+            if (!series.startsWith("memory_pool_used_bytes{")) {
+                continue;
+            }
+            assertThat("memory.pool.used should be tagged with the pool name: " + series, series,
+                    containsString("pool="));
+            double used = sample.getValue();
+            Double committed = samples.get(series.replace("memory_pool_used_bytes{", "memory_pool_committed_bytes{"));
+            Double max = samples.get(series.replace("memory_pool_used_bytes{", "memory_pool_max_bytes{"));
+            assertThat("memory.pool.used should not be negative: " + series, used, greaterThanOrEqualTo(0.0));
+            if (committed != null) {
+                assertThat("memory.pool.used must not exceed memory.pool.committed: " + series, used,
+                        lessThanOrEqualTo(committed));
+                if (max != null && max >= 0) {
+                    assertThat("memory.pool.committed must not exceed memory.pool.max: " + series, committed,
+                            lessThanOrEqualTo(max));
+                }
+            }
+        }
+
+        if (samples.keySet().stream().anyMatch(series -> series.startsWith("memory_metaspace_used_bytes{"))) {
+            assertThat("memory.metaspace.used must not exceed memory.metaspace.committed",
+                    sampleValue(samples, "memory_metaspace_used_bytes"),
+                    lessThanOrEqualTo(sampleValue(samples, "memory_metaspace_committed_bytes")));
+        }
+
+        for (Map.Entry<String, Double> sample : samples.entrySet()) {
+            if (sample.getKey().startsWith("buffer_pool_count{")) {
+                assertThat("buffer.pool.count should not be negative: " + sample.getKey(), sample.getValue(),
+                        greaterThanOrEqualTo(0.0));
+            }
+        }
+    }
+
+    /**
+     * The compilation, code cache and safepoint metrics are optional and must be absent rather than reported with a
+     * placeholder value if the virtual machine does not provide them. Any of them that is present must have the
+     * expected type and unit, and a consistent value.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(11)
+    public void testJitAndSafepointMetrics() {
+        Assume.assumeFalse(Boolean.getBoolean("skip.base.metric.tests"));
+        Header wantPromMetricsFormat = new Header("Accept", TEXT_PLAIN);
+        String data = given().header(wantPromMetricsFormat).get("/metrics?scope=base").asString();
+
+        Map<String, MiniMeta> expectedMetadata = getExpectedMetadataFromXmlFile(MetricRegistry.BASE_SCOPE);
+        Map<String, String> expectedTypes = new HashMap<>();
+        for (String name : Arrays.asList("jit.compilation.time", "memory.codeCache.used",
+                "memory.codeCache.committed", "memory.codeCache.max", "safepoint.total", "safepoint.time",
+                "safepoint.syncTime")) {
+            MiniMeta mm = expectedMetadata.get(name);
+            expectedTypes.put(mm.toPromString(), mm.type);
+        }
+
+        for (String line : data.split("\n")) {
+            if (!line.startsWith("# TYPE ")) {
+                continue;
+            }
+            String[] tmp = line.split(" ");
+            String promName = tmp[2];
+            if (promName.startsWith("jit_") || promName.startsWith("memory_codeCache_")
+                    || promName.startsWith("safepoint_")) {
+                assertTrue("Unexpected name or unit: " + line, expectedTypes.containsKey(promName));
+                assertEquals("Wrong metric type: " + line, expectedTypes.get(promName), tmp[3]);
+            }
+        }
+
+        Map<String, Double> samples = parseSamples(data);
+        for (Map.Entry<String, Double> sample : samples.entrySet()) {
+            String series = sample.getKey();
+            if (series.startsWith("jit_") || series.startsWith("memory_codeCache_")
+                    || series.startsWith("safepoint_")) {
+                assertThat("Value should not be negative: " + series, sample.getValue(), greaterThanOrEqualTo(0.0));
+            }
+        }
+        if (data.contains("memory_codeCache_used_bytes{") && data.contains("memory_codeCache_committed_bytes{")) {
+            assertThat("memory.codeCache.used must not exceed memory.codeCache.committed",
+                    sampleValue(samples, "memory_codeCache_used_bytes"),
+                    lessThanOrEqualTo(sampleValue(samples, "memory_codeCache_committed_bytes")));
+        }
+        if (data.contains("safepoint_syncTime_seconds{") && data.contains("safepoint_time_seconds{")) {
+            assertThat("safepoint.syncTime must not exceed safepoint.time",
+                    sampleValue(samples, "safepoint_syncTime_seconds"),
+                    lessThanOrEqualTo(sampleValue(samples, "safepoint_time_seconds")));
+        }
+    }
+
+    /**
+     * Base metrics may be collected in collection cycles, which only read the MBeans of the metrics included in a
+     * response and must not reuse the values of a previous request. A filtered request only needs to include the
+     * requested metric, and the values of the next request must be read again.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(12)
+    public void testBaseMetricsCollectionCycle() throws InterruptedException {
+        Assume.assumeFalse(Boolean.getBoolean("skip.base.metric.tests"));
+        Header wantPromMetricsFormat = new Header("Accept", TEXT_PLAIN);
+
+        Map<String, Double> filtered = parseSamples(given().header(wantPromMetricsFormat)
+                .get("/metrics?scope=base&name=memory.committedHeap").asString());
+        assertThat("memory.committedHeap should be included", sampleValue(filtered, "memory_committedHeap_bytes"),
+                greaterThan(0.0));
+        for (String series : filtered.keySet()) {
+            assertThat("Only memory.committedHeap was requested", series,
+                    containsString("memory_committedHeap_bytes{"));
+        }
+
+        // the metrics that were not read for the filtered request must be read for the next request
+        Map<String, Double> first = parseSamples(
+                given().header(wantPromMetricsFormat).get("/metrics?scope=base").asString());
+        for (String name : Arrays.asList("memory_usedHeap_bytes", "memory_committedHeap_bytes", "thread_count",
+                "jvm_uptime_seconds")) {
+            assertThat(name + " should be included after a filtered request", sampleValue(first, name),
+                    greaterThanOrEqualTo(0.0));
+        }
+
+        // the values of a collection cycle must not be reused for another request
+        Thread.sleep(100);
+        Map<String, Double> second = parseSamples(
+                given().header(wantPromMetricsFormat).get("/metrics?scope=base").asString());
+        assertThat("jvm.uptime must be read again for each request", sampleValue(second, "jvm_uptime_seconds"),
+                greaterThan(sampleValue(first, "jvm_uptime_seconds")));
+    }
+
+    /*
+     * Maps each series (name and tags) of a Prometheus response to its value
+     */
+    private static Map<String, Double> parseSamples(String data) {
+        Map<String, Double> samples = new HashMap<>();
+        for (String line : data.split("\n")) {
+            if (line.startsWith("#") || line.trim().isEmpty()) {
+                continue;
+            }
+            int separator = line.lastIndexOf(' ');
+            samples.put(line.substring(0, separator), Double.valueOf(line.substring(separator + 1)));
+        }
+        return samples;
+    }
+
+    private static double sampleValue(Map<String, Double> samples, String promName) {
+        return samples.entrySet().stream()
+                .filter(sample -> sample.getKey().startsWith(promName + "{"))
+                .mapToDouble(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Missing base metric " + promName));
+    }
+
     private Map<String, MiniMeta> getExpectedMetadataFromXmlFile(String scope) {
         ClassLoader cl = this.getClass().getClassLoader();
         String fileName;
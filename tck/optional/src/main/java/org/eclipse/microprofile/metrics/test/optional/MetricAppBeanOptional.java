@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ * Copyright (c) 2020, 2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -225,6 +225,47 @@ public class MetricAppBeanOptional {
         return "This is a POST request with multiple parameters4";
     }
 
+    @POST
+    @Path("/post-byte-array")
+    public String postByteArray(byte[] body) throws Exception {
+        return "This is a POST request with a byte array entity";
+    }
+
+    @POST
+    @Path("/post-entity-and-params")
+    public String postEntityAndParams(@QueryParam("qp1") SortedSet<String> v1, final @Context UriInfo uriInfo,
+            String body) throws Exception {
+        return "This is a POST request with an entity, a query parameter and a context parameter";
+    }
+
+    @GET
+    @Path("/get-boxed-params")
+    public String getBoxedParams(
+            @QueryParam("qp1") Integer v1,
+            @QueryParam("qp2") Long v2,
+            @QueryParam("qp3") Double v3,
+            @QueryParam("qp4") Boolean v4) throws Exception {
+        return "This is a GET request with boxed parameters";
+    }
+
+    @GET
+    @Path("/get-overloaded")
+    public String overloaded() throws Exception {
+        return "This is a GET request to an overloaded method with no parameters";
+    }
+
+    @GET
+    @Path("/get-overloaded-param")
+    public String overloaded(@QueryParam("qp1") int v1) throws Exception {
+        return "This is a GET request to an overloaded method with an int parameter";
+    }
+
+    @GET
+    @Path("/get-throughput")
+    public String getThroughput() throws Exception {
+        return "This is a GET request to measure the overhead of the REST metrics";
+    }
+
     @GET
     @Path("/get-mapped-arithmetic-exception")
     public String getMappedArithException() throws Exception {
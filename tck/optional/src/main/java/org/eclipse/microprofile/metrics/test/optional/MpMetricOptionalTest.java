@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2020, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2020, 2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -25,11 +25,19 @@ package org.eclipse.microprofile.metrics.test.optional;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.container.test.api.RunAsClient;
@@ -38,6 +46,7 @@ import org.jboss.arquillian.junit.InSequence;
 import org.jboss.arquillian.test.api.ArquillianResource;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -83,6 +92,12 @@ public class MpMetricOptionalTest {
     private static final String OBJECT_PARAM = "_java.lang.Object";
     private static final String NAME_OBJECT_PARAM = "_org.eclipse.microprofile.metrics.test.optional.NameObject";
     private static final String AYNC_RESP_PARAM = "_jakarta.ws.rs.container.AsyncResponse";
+    private static final String BYTE_ARRAY_PARAM = "_byte[]";
+
+    /*
+     * Generous upper bound for the mean duration recorded by REST.request for a resource method that does no work
+     */
+    private static final double MAX_MEAN_EMPTY_REQUEST_SECONDS = 0.1;
 
     /*
      * String constants for start of a metric line
@@ -118,6 +133,7 @@ public class MpMetricOptionalTest {
      */
     private static final String METRICS_ENDPOINT = "/metrics";
     private static final String BASE_METRIC_ENDPOINT = METRICS_ENDPOINT + "?" + "scope=base";
+    private static final String VENDOR_METRIC_ENDPOINT = METRICS_ENDPOINT + "?" + "scope=vendor";
     private static final String RESTREQUEST_METRIC_ENDPOINT = BASE_METRIC_ENDPOINT + "&" + "name=REST.request";
     private static final String RESTREQUEST_UNMAPPED_EXCEPION_METRIC_ENDPOINT =
             BASE_METRIC_ENDPOINT + "&" + "name=REST.request.unmappedException.total";
@@ -1134,6 +1150,175 @@ public class MpMetricOptionalTest {
                         + " 1"));
     }
 
+    /*
+     * TEST THE METHOD TAG OF PARAMETER SHAPES THAT ARE NOT COVERED ABOVE
+     */
+    @Test
+    @RunAsClient
+    @InSequence(22)
+    public void testMethodSignatureTags() {
+        Header acceptHeader = new Header("Accept", TEXT_PLAIN);
+
+        given().header(acceptHeader).port(applicationPort).body(new byte[]{1, 2, 3})
+                .contentType("application/octet-stream")
+                .when().post(contextRoot + "/post-byte-array").then().statusCode(200);
+        given().header(acceptHeader).port(applicationPort).queryParam("qp1", Arrays.asList("a", "b"))
+                .body("entity").contentType(TEXT_PLAIN)
+                .when().post(contextRoot + "/post-entity-and-params").then().statusCode(200);
+        given().header(acceptHeader).port(applicationPort).queryParam("qp1", 1).queryParam("qp2", 1L)
+                .queryParam("qp3", 1.0).queryParam("qp4", true)
+                .when().get(contextRoot + "/get-boxed-params").then().statusCode(200);
+        given().header(acceptHeader).port(applicationPort).when().get(contextRoot + "/get-overloaded").then()
+                .statusCode(200);
+        given().header(acceptHeader).port(applicationPort).queryParam("qp1", 1).when()
+                .get(contextRoot + "/get-overloaded-param").then().statusCode(200);
+
+        Response resp = given().header(acceptHeader).when().get(RESTREQUEST_METRIC_ENDPOINT);
+        ResponseBuilder responseBuilder = new ResponseBuilder();
+        responseBuilder.clone(resp);
+        responseBuilder.setBody(filterOutAppLabelOpenMetrics(resp.getBody().asString()));
+        resp = responseBuilder.build();
+        resp.then().statusCode(200).contentType(TEXT_PLAIN).body(
+                containsString(PROM_BASE_REQUEST_COUNT_START + "postByteArray" + BYTE_ARRAY_PARAM
+                        + PROM_BASE_REQUEST_END + " 1"),
+                containsString(PROM_BASE_REQUEST_COUNT_START + "postEntityAndParams" + SORTED_SET_PARAM
+                        + URI_INFO_PARAM + STRING_PARAM + PROM_BASE_REQUEST_END + " 1"),
+                containsString(PROM_BASE_REQUEST_COUNT_START + "getBoxedParams" + INTW_PARAM + LONGW_PARAM
+                        + DOUBLEW_PARAM + BOOLEANW_PARAM + PROM_BASE_REQUEST_END + " 1"),
+                // overloaded methods must not share a metric
+                containsString(PROM_BASE_REQUEST_COUNT_START + "overloaded" + PROM_BASE_REQUEST_END + " 1"),
+                containsString(PROM_BASE_REQUEST_COUNT_START + "overloaded" + INT_PARAM + PROM_BASE_REQUEST_END
+                        + " 1"));
+    }
+
+    /*
+     * The method tag is resolved when the resource method is deployed, so the REST metrics must count every request
+     * exactly and add little to the duration of a request that does no work.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(23)
+    public void testRestRequestThroughput() throws Exception {
+        Header acceptHeader = new Header("Accept", TEXT_PLAIN);
+        int threads = 4;
+        int requestsPerThread = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        given().header(acceptHeader).port(applicationPort).when()
+                                .get(contextRoot + "/get-throughput").then().statusCode(200);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String data = filterOutAppLabelOpenMetrics(
+                given().header(acceptHeader).when().get(RESTREQUEST_METRIC_ENDPOINT).asString());
+        double count = -1;
+        double sum = -1;
+        for (String line : data.split("\n")) {
+            if (line.startsWith(PROM_BASE_REQUEST_COUNT_START + "getThroughput" + PROM_BASE_REQUEST_END)) {
+                count = parseMetricLineValue(line);
+            } else if (line.startsWith(PROM_BASE_REQUEST_TIME_START + "getThroughput" + PROM_BASE_REQUEST_END)) {
+                sum = parseMetricLineValue(line);
+            }
+        }
+        assertEquals("Every request should be counted", threads * requestsPerThread, count, 0.0);
+        assertThat("The mean recorded duration of a request that does no work should stay below "
+                + MAX_MEAN_EMPTY_REQUEST_SECONDS + " seconds, but was " + sum / count,
+                sum / count < MAX_MEAN_EMPTY_REQUEST_SECONDS);
+    }
+
+    /*
+     * The phase timers are optional. If they are tracked, each phase of the requests of testRestRequestThroughput
+     * cannot have been recorded more often than the request itself, and carries the same class and method tags.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(24)
+    public void testRestRequestPhases() {
+        Header acceptHeader = new Header("Accept", TEXT_PLAIN);
+        String data = filterOutAppLabelOpenMetrics(
+                given().header(acceptHeader).when().get(BASE_METRIC_ENDPOINT).asString());
+
+        double requests = -1;
+        for (String line : data.split("\n")) {
+            if (line.startsWith(PROM_BASE_REQUEST_COUNT_START + "getThroughput" + PROM_BASE_REQUEST_END)) {
+                requests = parseMetricLineValue(line);
+            }
+        }
+        assertThat("REST.request should have been recorded for getThroughput", requests > 0);
+
+        boolean phaseFound = false;
+        for (String phase : Arrays.asList("queue", "processing", "serialization")) {
+            String countStart = PROM_BASE_REQUEST_COUNT_START.replace("REST_request_seconds_count",
+                    "REST_request_" + phase + "_seconds_count");
+            for (String line : data.split("\n")) {
+                if (line.startsWith(countStart + "getThroughput" + PROM_BASE_REQUEST_END)) {
+                    phaseFound = true;
+                    assertThat("REST.request." + phase + " should not count more requests than REST.request",
+                            parseMetricLineValue(line) <= requests);
+                }
+            }
+        }
+        Assume.assumeTrue("REST.request phase timers are not tracked by this implementation", phaseFound);
+    }
+
+    /*
+     * The metrics of the metrics runtime are optional. If they are provided, the previous scrape must have been
+     * recorded, and each metric must be exposed with the type defined by the specification.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(25)
+    public void testSelfMetrics() {
+        Header acceptHeader = new Header("Accept", TEXT_PLAIN);
+        given().header(acceptHeader).when().get(METRICS_ENDPOINT).then().statusCode(200);
+        String data = filterOutAppLabelOpenMetrics(
+                given().header(acceptHeader).when().get(VENDOR_METRIC_ENDPOINT).asString());
+        Assume.assumeTrue("The metrics of the metrics runtime are not provided by this implementation",
+                data.contains("metrics_scrape_seconds_count{"));
+
+        assertType(data, "metrics_scrape_seconds", "summary|histogram");
+        assertType(data, "metrics_scrape_rendered_bytes_total", "counter");
+        assertType(data, "metrics_series", "gauge");
+        assertType(data, "metrics_lookups_total", "counter");
+        assertType(data, "metrics_gauge_evaluation_seconds", "summary|histogram");
+
+        assertThat("The previous scrape should have been timed",
+                sampleValue(data, "metrics_scrape_seconds_count", "format=\"prometheus\"") >= 1);
+        assertThat("The bytes of the previous scrape should have been counted",
+                sampleValue(data, "metrics_scrape_rendered_bytes_total", "format=\"prometheus\"") > 0);
+        assertThat("The gauge evaluation of the previous scrape should have been timed",
+                sampleValue(data, "metrics_gauge_evaluation_seconds_count", "format=\"prometheus\"") >= 1);
+        assertThat("The metrics of the base scope should have been counted",
+                sampleValue(data, "metrics_series", "scope=\"base\"") > 0);
+    }
+
+    private static void assertType(String data, String name, String types) {
+        assertThat(name + " should be exposed as " + types,
+                Pattern.compile("(?m)^# TYPE " + name + " (" + types + ")$").matcher(data).find());
+    }
+
+    // returns the value of the sample with the given name and tag, or -1 if there is no such sample
+    private double sampleValue(String data, String name, String tag) {
+        for (String line : data.split("\n")) {
+            if (line.startsWith(name + "{") && (line.contains("{" + tag) || line.contains("," + tag))) {
+                return parseMetricLineValue(line);
+            }
+        }
+        return -1;
+    }
+
     public double parseMetricLineValue(String line) {
         String tmpLine = line.trim();
         String[] elements = tmpLine.split(" ");
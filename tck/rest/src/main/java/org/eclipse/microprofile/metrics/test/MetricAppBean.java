@@ -83,6 +83,16 @@ public class MetricAppBean {
     @Metric(name = SHARED_METRIC_NAME, absolute = true, scope = "customScopeD", unit = "marshmallow")
     private Histogram histogramMetricNameScopeD;
 
+    public static final String MULTI_SCOPE_COUNTER = "multiScopeCounter";
+
+    @Inject
+    @Metric(name = MULTI_SCOPE_COUNTER, absolute = true, description = "multi-scope-description")
+    private Counter multiScopeCounterApplication;
+
+    @Inject
+    @Metric(name = MULTI_SCOPE_COUNTER, absolute = true, scope = "customScopeA", description = "multi-scope-description")
+    private Counter multiScopeCounterScopeA;
+
     @Inject
     @Metric(name = "semiColonTaggedCounter", tags = {"scTag=semi;colons;are;bad"})
     private Counter semiColonTaggedCounter;
@@ -0,0 +1,166 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+
+package org.eclipse.microprofile.metrics.test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal reader for a length-delimited stream of {@code io.prometheus.client.MetricFamily} messages, just enough to
+ * verify the family name, type and number of series without depending on a protocol buffer runtime.
+ */
+public class MetricFamilyReader {
+
+    public static final int COUNTER = 0;
+    public static final int GAUGE = 1;
+    public static final int SUMMARY = 2;
+    public static final int UNTYPED = 3;
+    public static final int HISTOGRAM = 4;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_FIXED32 = 5;
+
+    private final byte[] data;
+    private int pos;
+
+    public MetricFamilyReader(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Reads all length-delimited {@code MetricFamily} messages of the stream.
+     *
+     * @return the families in the order of the stream
+     * @throws IllegalStateException
+     *             if the stream is not well formed
+     */
+    public List<MetricFamily> readAll() {
+        List<MetricFamily> families = new ArrayList<>();
+        while (pos < data.length) {
+            int length = (int) readVarint();
+            int end = pos + length;
+            if (length < 0 || end > data.length) {
+                throw new IllegalStateException("Message length " + length + " exceeds stream at offset " + pos);
+            }
+            families.add(readFamily(end));
+        }
+        return families;
+    }
+
+    private MetricFamily readFamily(int end) {
+        MetricFamily family = new MetricFamily();
+        while (pos < end) {
+            long key = readVarint();
+            int field = (int) (key >>> 3);
+            int wireType = (int) (key & 0x7);
+            if (field == 1 && wireType == WIRE_LENGTH_DELIMITED) {
+                family.name = readString();
+            } else if (field == 2 && wireType == WIRE_LENGTH_DELIMITED) {
+                family.help = readString();
+            } else if (field == 3 && wireType == WIRE_VARINT) {
+                family.type = (int) readVarint();
+            } else if (field == 4 && wireType == WIRE_LENGTH_DELIMITED) {
+                family.metricCount++;
+                skip(wireType);
+            } else {
+                skip(wireType);
+            }
+        }
+        if (pos != end) {
+            throw new IllegalStateException("MetricFamily " + family.name + " overruns its declared length");
+        }
+        return family;
+    }
+
+    private long readVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos >= data.length) {
+                throw new IllegalStateException("Truncated varint at offset " + pos);
+            }
+            byte b = data[pos++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at offset " + pos);
+    }
+
+    private String readString() {
+        int length = (int) readVarint();
+        String s = new String(data, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return s;
+    }
+
+    private void skip(int wireType) {
+        switch (wireType) {
+            case WIRE_VARINT :
+                readVarint();
+                break;
+            case WIRE_FIXED64 :
+                pos += 8;
+                break;
+            case WIRE_LENGTH_DELIMITED :
+                pos += (int) readVarint();
+                break;
+            case WIRE_FIXED32 :
+                pos += 4;
+                break;
+            default :
+                throw new IllegalStateException("Unsupported wire type " + wireType + " at offset " + pos);
+        }
+    }
+
+    public static class MetricFamily {
+        private String name;
+        private String help;
+        private int type = COUNTER;
+        private int metricCount;
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        public int getMetricCount() {
+            return metricCount;
+        }
+
+        @Override
+        public String toString() {
+            return "MetricFamily{name='" + name + "', type=" + type + ", metrics=" + metricCount + "}";
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*
  **********************************************************************
- * Copyright (c) 2017, 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017, 2026 Contributors to the Eclipse Foundation
  *
  * See the NOTICES file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -25,10 +25,28 @@ package org.eclipse.microprofile.metrics.test;
 import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.when;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
-
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.container.test.api.RunAsClient;
@@ -36,12 +54,15 @@ import org.jboss.arquillian.junit.Arquillian;
 import org.jboss.arquillian.junit.InSequence;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Assume;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import io.restassured.RestAssured;
 import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.Header;
 import io.restassured.response.Response;
 import jakarta.inject.Inject;
@@ -57,8 +78,14 @@ import jakarta.inject.Inject;
 public class MpMetricTest {
     private static final String TEXT_PLAIN = "text/plain";
 
+    private static final String PROTOBUF = "application/vnd.google.protobuf";
+    private static final String PROTOBUF_DELIMITED = PROTOBUF
+            + ";proto=io.prometheus.client.MetricFamily;encoding=delimited";
+
     private static final String PROM_APP_LABEL_REGEX = "mp_app=\"[-/A-Za-z0-9]+\"";
 
+    private static final Pattern MP_SCOPE_LABEL = Pattern.compile("mp_scope=\"([^\"]*)\"");
+
     private static final String DEFAULT_PROTOCOL = "http";
     private static final String DEFAULT_HOST = "localhost";
     private static final int DEFAULT_PORT = 8080;
@@ -72,6 +99,31 @@ public class MpMetricTest {
         return responseBody.replaceAll(PROM_APP_LABEL_REGEX, "").replaceAll("\\{,", "{").replaceAll(",\\}", "}");
     }
 
+    /*
+     * Leaves the response body exactly as sent by the server, so that the content coding can be inspected
+     */
+    private static RestAssuredConfig noDecoding() {
+        return RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /*
+     * The protobuf format is optional, an implementation not supporting it answers a protobuf-only request with 406
+     */
+    private static boolean isProtobufSupported() {
+        return given().header("Accept", PROTOBUF_DELIMITED).get("/metrics?scope=application").statusCode() == 200;
+    }
+
+    private static void assertContentType(Response resp, String expected) {
+        assertTrue("Expected content type " + expected + " but got " + resp.getContentType(),
+                resp.getContentType().toLowerCase().startsWith(expected));
+    }
+
     @Inject
     private MetricAppBean metricAppBean;
 
@@ -804,4 +856,285 @@ public class MpMetricTest {
 
     }
 
+    @Test
+    @RunAsClient
+    @InSequence(30)
+    public void testGzipResponseIdenticalToIdentity() throws IOException {
+        String path = "/metrics?scope=application&name=org.eclipse.microprofile.metrics.test.MetricAppBean."
+                + MetricAppBean.TAGGED_COUNTER;
+
+        Response plain = given().config(noDecoding()).header("Accept", TEXT_PLAIN)
+                .header("Accept-Encoding", "identity").get(path);
+        plain.then().statusCode(200);
+        assertNotEquals("gzip", plain.getHeader("Content-Encoding"));
+
+        Response gzipped = given().config(noDecoding()).header("Accept", TEXT_PLAIN)
+                .header("Accept-Encoding", "gzip").get(path);
+        gzipped.then().statusCode(200).and().contentType(TEXT_PLAIN);
+        assertEquals("gzip", gzipped.getHeader("Content-Encoding"));
+
+        assertThat(plain.asString(), containsString("number=\"two\""));
+        assertEquals(plain.asString(), gunzip(gzipped.asByteArray()));
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(31)
+    public void testGzipNegotiation() throws IOException {
+        // zstd support is optional, so the server must fall back to the highest ranked coding it supports
+        Response resp = given().config(noDecoding()).header("Accept", TEXT_PLAIN)
+                .header("Accept-Encoding", "br;q=1.0, zstd;q=0.9, gzip;q=0.5")
+                .get("/metrics?scope=application");
+        resp.then().statusCode(200).and().contentType(TEXT_PLAIN);
+        String encoding = resp.getHeader("Content-Encoding");
+        if ("gzip".equals(encoding)) {
+            assertThat(gunzip(resp.asByteArray()), containsString("# TYPE greenCount_total counter"));
+        } else {
+            assertTrue("Unexpected content coding " + encoding, "br".equals(encoding) || "zstd".equals(encoding));
+        }
+
+        // a coding with q=0 must not be used
+        Response refused = given().config(noDecoding()).header("Accept", TEXT_PLAIN)
+                .header("Accept-Encoding", "gzip;q=0")
+                .get("/metrics?scope=application");
+        refused.then().statusCode(200).and().contentType(TEXT_PLAIN)
+                .body(containsString("# TYPE greenCount_total counter"));
+        assertNotEquals("gzip", refused.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(32)
+    public void testGzipAllScopes() throws IOException {
+        Response gzipped = given().config(noDecoding()).header("Accept", TEXT_PLAIN)
+                .header("Accept-Encoding", "gzip").get("/metrics");
+        gzipped.then().statusCode(200).and().contentType(TEXT_PLAIN);
+        assertEquals("gzip", gzipped.getHeader("Content-Encoding"));
+
+        String body = gunzip(gzipped.asByteArray());
+        assertThat(body, containsString("# TYPE greenCount_total counter"));
+        assertThat(body, containsString("# TYPE sharedMetricName_total counter"));
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(33)
+    public void testProtobufAccept1() {
+        Response resp = given().header("Accept", PROTOBUF_DELIMITED + ";q=0.5,text/plain;q=0.5")
+                .get("/metrics?scope=application");
+        resp.then().statusCode(200);
+        // the specification defines no preference between media types of equal quality
+        if (isProtobufSupported()) {
+            String contentType = resp.getContentType().toLowerCase();
+            assertTrue("Expected content type " + PROTOBUF + " or " + TEXT_PLAIN + " but got " + contentType,
+                    contentType.startsWith(PROTOBUF) || contentType.startsWith(TEXT_PLAIN));
+        } else {
+            assertContentType(resp, TEXT_PLAIN);
+        }
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(34)
+    public void testProtobufAccept2() {
+        Response resp = given().header("Accept", PROTOBUF_DELIMITED + ";q=0.1,text/plain;q=0.9")
+                .get("/metrics?scope=application");
+        resp.then().statusCode(200);
+        assertContentType(resp, TEXT_PLAIN);
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(35)
+    public void testProtobufAccept3() {
+        Response resp = given().header("Accept", PROTOBUF_DELIMITED).get("/metrics?scope=application");
+        if (resp.statusCode() == 406) {
+            return;
+        }
+        resp.then().statusCode(200);
+        assertContentType(resp, PROTOBUF);
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(36)
+    public void testProtobufAccept4() {
+        Response resp = given().header("Accept", PROTOBUF_DELIMITED + ";q=0.9,text/plain;q=0.1")
+                .get("/metrics?scope=application");
+        resp.then().statusCode(200);
+        assertContentType(resp, isProtobufSupported() ? PROTOBUF : TEXT_PLAIN);
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(37)
+    public void testProtobufAccept5() {
+        Response resp = given().header("Accept", "image/png;q=1," + PROTOBUF_DELIMITED + ";q=0.5,*/*;q=0.1")
+                .get("/metrics?scope=application");
+        resp.then().statusCode(200);
+        assertContentType(resp, isProtobufSupported() ? PROTOBUF : TEXT_PLAIN);
+    }
+
+    /**
+     * The protobuf response must contain exactly the metric families of the Prometheus response.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(38)
+    public void testProtobufMetricFamilies() {
+        Assume.assumeTrue(isProtobufSupported());
+
+        Response protobuf = given().header("Accept", PROTOBUF_DELIMITED).get("/metrics?scope=application");
+        protobuf.then().statusCode(200);
+        List<MetricFamilyReader.MetricFamily> families = new MetricFamilyReader(protobuf.asByteArray()).readAll();
+
+        String text = given().header("Accept", TEXT_PLAIN).get("/metrics?scope=application").asString();
+        Set<String> expectedNames = Arrays.stream(text.split("\n"))
+                .filter(line -> line.startsWith("# TYPE "))
+                .map(line -> line.split(" ")[2])
+                .collect(Collectors.toCollection(TreeSet::new));
+        Set<String> familyNames = families.stream().map(MetricFamilyReader.MetricFamily::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        assertEquals("Each family must be sent once", families.size(), familyNames.size());
+        assertEquals(expectedNames, familyNames);
+
+        for (MetricFamilyReader.MetricFamily family : families) {
+            switch (family.getName()) {
+                case "org_eclipse_microprofile_metrics_test_MetricAppBean_taggedCounter_total" :
+                    assertEquals(family.toString(), MetricFamilyReader.COUNTER, family.getType());
+                    assertEquals(family.toString(), 2, family.getMetricCount());
+                    break;
+                case "taggedGauge" :
+                    assertEquals(family.toString(), MetricFamilyReader.GAUGE, family.getType());
+                    assertEquals(family.toString(), 2, family.getMetricCount());
+                    break;
+                case "noTagTimer_seconds" :
+                    assertEquals(family.toString(), MetricFamilyReader.SUMMARY, family.getType());
+                    break;
+                case "noTagTimer_seconds_max" :
+                    assertEquals(family.toString(), MetricFamilyReader.GAUGE, family.getType());
+                    break;
+                case "org_eclipse_microprofile_metrics_test_MetricAppBean_redCount_total" :
+                    assertEquals(family.toString(), "red-description", family.getHelp());
+                    break;
+                default :
+                    break;
+            }
+        }
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(39)
+    public void testFilterMultipleNames() {
+        given().header("Accept", TEXT_PLAIN).get("/metrics?scope=application&name=purple&name=greenCount")
+                .then().statusCode(200)
+                .body(containsString("purple_total{"))
+                .body(containsString("greenCount_total{"))
+                .body(not(containsString("jellybeanHistogram")))
+                .body(not(containsString("mp_scope=\"base\"")));
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(40)
+    public void testFilterNamePrefix() {
+        Response resp = given().header("Accept", TEXT_PLAIN).get("/metrics?name_prefix=sharedMetric");
+        resp.then().statusCode(200)
+                .body(containsString("# TYPE sharedMetricName_total counter"))
+                .body(containsString("# TYPE sharedMetricName_seconds summary"))
+                .body(containsString("# TYPE sharedMetricName_jelly gauge"))
+                .body(containsString("# TYPE sharedMetricName_marshmallow summary"))
+                .body(not(containsString("purple_total")));
+
+        // names and prefixes are combined with a logical OR
+        given().header("Accept", TEXT_PLAIN)
+                .get("/metrics?scope=application&name_prefix=org.eclipse.microprofile.metrics.test.MetricAppBean.tagged"
+                        + "&name=purple")
+                .then().statusCode(200)
+                .body(containsString("org_eclipse_microprofile_metrics_test_MetricAppBean_taggedCounter_total{"))
+                .body(containsString("purple_total{"))
+                .body(not(containsString("greenCount_total")))
+                .body(not(containsString("sharedMetricName")));
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(41)
+    public void testFilterTag() {
+        given().header("Accept", TEXT_PLAIN).get("/metrics?scope=application&tag=number:one")
+                .then().statusCode(200)
+                .body(containsString("org_eclipse_microprofile_metrics_test_MetricAppBean_taggedCounter_total{"))
+                .body(containsString("taggedGauge{"))
+                .body(containsString("number=\"one\""))
+                .body(not(containsString("number=\"two\"")))
+                .body(not(containsString("purple_total")));
+
+        // names and tags are combined with a logical AND
+        given().header("Accept", TEXT_PLAIN)
+                .get("/metrics?scope=application&name=" + MetricAppBean.TAGGED_GAUGE + "&tag=number:two")
+                .then().statusCode(200)
+                .body(containsString("taggedGauge{"))
+                .body(containsString("number=\"two\""))
+                .body(not(containsString("number=\"one\"")))
+                .body(not(containsString("taggedCounter")));
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(42)
+    public void testFilterMultipleTags() {
+        given().header("Accept", TEXT_PLAIN).get("/metrics?scope=application&tag=app:myShop")
+                .then().statusCode(200)
+                .body(containsString("purple_total{"));
+
+        // tags are combined with a logical AND, so no metric matches, which is not an error
+        given().header("Accept", TEXT_PLAIN).get("/metrics?scope=application&tag=app:myShop&tag=number:one")
+                .then().statusCode(200)
+                .body(equalTo(""));
+    }
+
+    @Test
+    @RunAsClient
+    @InSequence(43)
+    public void testFilterMalformedTag() {
+        given().header("Accept", TEXT_PLAIN).get("/metrics?scope=application&tag=number")
+                .then().statusCode(400);
+    }
+
+    /**
+     * A response for all scopes must write each metric family once, with the series of all scopes grouped under it.
+     */
+    @Test
+    @RunAsClient
+    @InSequence(44)
+    public void testMetricFamiliesAcrossScopes() {
+        Response resp = given().header("Accept", TEXT_PLAIN).get("/metrics");
+        resp.then().statusCode(200);
+        List<String> lines = Arrays.asList(resp.asString().split("\n"));
+
+        for (String comment : new String[]{"# TYPE ", "# HELP "}) {
+            List<String> familyNames = lines.stream()
+                    .filter(line -> line.startsWith(comment))
+                    .map(line -> line.split(" ")[2])
+                    .collect(Collectors.toList());
+            assertEquals("Each family must have a single '" + comment.trim() + "' line",
+                    new TreeSet<>(familyNames).size(), familyNames.size());
+        }
+
+        String family = "multiScopeCounter_total";
+        int typeLine = lines.indexOf("# TYPE " + family + " counter");
+        assertTrue("Missing TYPE line of " + family, typeLine >= 0);
+        Set<String> scopes = new TreeSet<>();
+        for (int i = typeLine + 1; i < lines.size() && !lines.get(i).startsWith("#"); i++) {
+            String line = lines.get(i);
+            Matcher scope = MP_SCOPE_LABEL.matcher(line);
+            if (line.startsWith(family + "{") && scope.find()) {
+                scopes.add(scope.group(1));
+            }
+        }
+        assertEquals("The series of all scopes must follow the single TYPE line of the family",
+                new TreeSet<>(Arrays.asList("application", "customScopeA")), scopes);
+    }
+
 }